@@ -34,6 +34,7 @@ public class Main {
 
         context.register(AppConfig.class);
         context.refresh();
+        context.registerShutdownHook();
 
         EmployeeService employeeService = context.getBean(EmployeeService.class);
         var request = new LoginRequest("", "");
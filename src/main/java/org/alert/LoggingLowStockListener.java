@@ -0,0 +1,20 @@
+package org.alert;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LoggingLowStockListener implements LowStockListener {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingLowStockListener.class);
+
+    @Override
+    public void onLowStock(LowStockAlert alert) {
+        log.warn("Low stock for product id: {} at location id: {}, quantity {} (low level {})",
+                alert.productId(), alert.locationId(), alert.quantity(), alert.lowLevel());
+    }
+
+    @Override
+    public void onRestocked(LowStockAlert alert) {
+        log.info("Restocked product id: {} at location id: {}, quantity {}", alert.productId(), alert.locationId(), alert.quantity());
+    }
+}
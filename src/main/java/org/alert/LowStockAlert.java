@@ -0,0 +1,27 @@
+package org.alert;
+
+import org.model.StockThreshold;
+
+import java.time.Instant;
+
+/**
+ * A product crossing its low-stock limits at a location.
+ *
+ * @param restocked {@code false} when the stock fell to the low level, {@code true} when it recovered to the restock level
+ * @param quantity  the quantity that crossed the limit
+ */
+public record LowStockAlert(
+    Long productId,
+    Long locationId,
+    int quantity,
+    int lowLevel,
+    int restockLevel,
+    boolean restocked,
+    Instant raisedAt
+) {
+
+    static LowStockAlert of(StockThreshold threshold, int quantity, boolean restocked) {
+        return new LowStockAlert(threshold.productId(), threshold.locationId(), quantity,
+                threshold.lowLevel(), threshold.restockLevel(), restocked, Instant.now());
+    }
+}
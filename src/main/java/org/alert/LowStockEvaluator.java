@@ -0,0 +1,130 @@
+package org.alert;
+
+import org.dao.StockThresholdDao;
+import org.model.StockKey;
+import org.model.StockLevel;
+import org.model.StockThreshold;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Checks every stock write against the low-stock thresholds held in memory, so alerts need no scan of
+ * {@code inventory}.<p>
+ * A write costs one map lookup; alerts only fire when the quantity crosses a limit and are handed to the
+ * listeners on {@code dispatcher}. Between the low and the restock level the last state is kept, so stock moving
+ * around the low level raises one alert rather than one per sale.
+ */
+public class LowStockEvaluator implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(LowStockEvaluator.class);
+
+    private final StockThresholdDao stockThresholdDao;
+    private final Executor dispatcher;
+    private final ExecutorService ownedDispatcher;
+
+    private final Map<StockKey, StockThreshold> thresholds = new ConcurrentHashMap<>();
+    private final Set<StockKey> alerting = ConcurrentHashMap.newKeySet();
+    private final List<LowStockListener> listeners = new CopyOnWriteArrayList<>();
+
+    public LowStockEvaluator(StockThresholdDao stockThresholdDao) {
+        this(stockThresholdDao, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "low-stock-alerts");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    LowStockEvaluator(StockThresholdDao stockThresholdDao, Executor dispatcher) {
+        this.stockThresholdDao = stockThresholdDao;
+        this.dispatcher = dispatcher;
+        this.ownedDispatcher = dispatcher instanceof ExecutorService executor ? executor : null;
+    }
+
+    /**
+     * Load the thresholds and mark the rows that are already low, without alerting for them again.
+     */
+    public void reload() {
+        Map<StockKey, StockThreshold> loaded = new ConcurrentHashMap<>();
+        for (StockThreshold threshold : stockThresholdDao.findAll()) {
+            loaded.put(threshold.key(), threshold);
+        }
+
+        thresholds.keySet().retainAll(loaded.keySet());
+        thresholds.putAll(loaded);
+        alerting.clear();
+        alerting.addAll(stockThresholdDao.findBelowLowLevel());
+    }
+
+    public void addListener(LowStockListener listener) {
+        listeners.add(listener);
+    }
+
+    public void put(StockThreshold threshold) {
+        thresholds.put(threshold.key(), threshold);
+    }
+
+    public void remove(Long productId, Long locationId) {
+        StockKey key = new StockKey(productId, locationId);
+        thresholds.remove(key);
+        alerting.remove(key);
+    }
+
+    public Set<StockKey> activeAlerts() {
+        return Set.copyOf(alerting);
+    }
+
+    public void evaluate(Collection<StockLevel> levels) {
+        for (StockLevel level : levels) {
+            evaluate(level.productId(), level.locationId(), level.quantity());
+        }
+    }
+
+    public void evaluate(Long productId, Long locationId, int quantity) {
+        StockKey key = new StockKey(productId, locationId);
+        StockThreshold threshold = thresholds.get(key);
+        if (threshold == null) {
+            return;
+        }
+
+        if (quantity <= threshold.lowLevel()) {
+            if (alerting.add(key)) {
+                publish(LowStockAlert.of(threshold, quantity, false));
+            }
+        } else if (quantity >= threshold.restockLevel() && alerting.remove(key)) {
+            publish(LowStockAlert.of(threshold, quantity, true));
+        }
+    }
+
+    @Override
+    public void close() {
+        if (ownedDispatcher != null) {
+            ownedDispatcher.close();
+        }
+    }
+
+    private void publish(LowStockAlert alert) {
+        dispatcher.execute(() -> {
+            for (LowStockListener listener : listeners) {
+                try {
+                    if (alert.restocked()) {
+                        listener.onRestocked(alert);
+                    } else {
+                        listener.onLowStock(alert);
+                    }
+                } catch (RuntimeException e) {
+                    log.error("Low stock listener {} failed for {}", listener, alert, e);
+                }
+            }
+        });
+    }
+}
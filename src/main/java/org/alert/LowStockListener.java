@@ -0,0 +1,11 @@
+package org.alert;
+
+/**
+ * Receives alerts from {@link LowStockEvaluator}. Listeners are called one at a time off the inventory write path.
+ */
+@FunctionalInterface
+public interface LowStockListener {
+    void onLowStock(LowStockAlert alert);
+
+    default void onRestocked(LowStockAlert alert) { }
+}
@@ -0,0 +1,18 @@
+package org.cache;
+
+/**
+ * Point-in-time counters of an {@link ExpiringLruCache}.
+ *
+ * @param hits        lookups answered from the cache
+ * @param misses      lookups that went to the loader
+ * @param evictions   entries dropped because the cache was full
+ * @param expirations entries dropped because their time to live ran out
+ * @param size        entries currently held
+ */
+public record CacheStats(long hits, long misses, long evictions, long expirations, int size) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,116 @@
+package org.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded read-through cache that evicts the least recently used entry once {@code maxSize} is reached
+ * and treats entries older than {@code ttl} as absent.<p>
+ * The loader runs outside the lock, so two threads missing on the same key may both load it. A value
+ * loaded while the cache was invalidated is returned to its caller but not stored.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAt) { }
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    public ExpiringLruCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    ExpiringLruCache(int maxSize, Duration ttl, LongSupplier clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be greater than 0");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache ttl must be greater than 0");
+        }
+
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > ExpiringLruCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            V cached = lookup(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        V value = loader.apply(key);
+        if (value != null) {
+            synchronized (this) {
+                if (loadGeneration == generation) {
+                    entries.put(key, new Entry<>(value, clock.getAsLong() + ttlNanos));
+                }
+            }
+        }
+        return value;
+    }
+
+    public synchronized V getIfPresent(K key) {
+        V cached = lookup(key);
+        if (cached != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return cached;
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, expirations, entries.size());
+    }
+
+    private V lookup(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.getAsLong() - entry.expiresAt() >= 0) {
+            entries.remove(key);
+            expirations++;
+            return null;
+        }
+        return entry.value();
+    }
+}
@@ -2,7 +2,9 @@ package org.config;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
+@EnableScheduling
 @Import({ DaoConfig.class, ServiceConfig.class, DatabaseConfig.class, SecurityConfig.class, ValidatorConfig.class })
 public class AppConfig { }
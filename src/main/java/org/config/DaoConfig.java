@@ -1,11 +1,16 @@
 package org.config;
 
+import org.alert.LowStockEvaluator;
 import org.dao.*;
+import org.dao.buffer.StockMovementBuffer;
 import org.dao.impl.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.time.Duration;
+
 @Configuration
 public class DaoConfig {
 
@@ -29,7 +34,49 @@ public class DaoConfig {
         return new InventoryDaoImpl(jdbcTemplate);
     }
 
+    @Bean public InventoryLedgerDao inventoryLedgerDao(JdbcTemplate jdbcTemplate) {
+        return new InventoryLedgerDaoImpl(jdbcTemplate);
+    }
+
+    @Bean public StockThresholdDao stockThresholdDao(JdbcTemplate jdbcTemplate) {
+        return new StockThresholdDaoImpl(jdbcTemplate);
+    }
+
+    @Bean public StockReservationDao stockReservationDao(JdbcTemplate jdbcTemplate) {
+        return new StockReservationDaoImpl(jdbcTemplate);
+    }
+
+    @Bean public InventoryReportDao inventoryReportDao(JdbcTemplate jdbcTemplate) {
+        return new InventoryReportDaoImpl(jdbcTemplate);
+    }
+
+    @Bean public CycleCountDao cycleCountDao(JdbcTemplate jdbcTemplate) {
+        return new CycleCountDaoImpl(jdbcTemplate);
+    }
+
+    @Bean public StockSummaryDao stockSummaryDao(JdbcTemplate jdbcTemplate) {
+        return new StockSummaryDaoImpl(jdbcTemplate);
+    }
+
+    @Bean public StockMovementBuffer stockMovementBuffer(InventoryDao inventoryDao, LowStockEvaluator lowStockEvaluator,
+                                                         @Value("${inventory.buffer.flush-interval-ms:1000}") long flushIntervalMillis,
+                                                         @Value("${inventory.buffer.flush-threshold:500}") int flushThreshold) {
+        return new StockMovementBuffer(inventoryDao, Duration.ofMillis(flushIntervalMillis), flushThreshold, lowStockEvaluator::evaluate);
+    }
+
     @Bean public SupplierDao supplierDao(JdbcTemplate jdbcTemplate) {
         return new SupplierDaoImpl(jdbcTemplate);
     }
+
+    @Bean public SupplierProductDao supplierProductDao(JdbcTemplate jdbcTemplate) {
+        return new SupplierProductDaoImpl(jdbcTemplate);
+    }
+
+    @Bean public PurchaseOrderDao purchaseOrderDao(JdbcTemplate jdbcTemplate) {
+        return new PurchaseOrderDaoImpl(jdbcTemplate);
+    }
+
+    @Bean public ReorderDao reorderDao(JdbcTemplate jdbcTemplate) {
+        return new ReorderDaoImpl(jdbcTemplate);
+    }
 }
@@ -7,10 +7,14 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
 
 @Configuration
+@EnableTransactionManagement
 @PropertySource("classpath:app.properties")
 public class DatabaseConfig {
 
@@ -37,6 +41,7 @@ public class DatabaseConfig {
         dataSource.setConnectionTimeout(30000);
 
         dataSource.setConnectionTestQuery("SELECT 1");
+        dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
         return dataSource;
     }
 
@@ -44,6 +49,10 @@ public class DatabaseConfig {
         return new JdbcTemplate(dataSource);
     }
 
+    @Bean public PlatformTransactionManager transactionManager(DataSource dataSource) {
+        return new DataSourceTransactionManager(dataSource);
+    }
+
     @Bean public SchemaInitializer schemaInitializer(DataSource dataSource) {
         return new SchemaInitializer(dataSource);
     }
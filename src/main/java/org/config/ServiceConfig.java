@@ -1,14 +1,26 @@
 package org.config;
 
+import org.alert.LoggingLowStockListener;
+import org.alert.LowStockEvaluator;
+import org.cache.ExpiringLruCache;
 import org.dao.*;
+import org.export.ProductCatalogExporter;
+import org.model.Product;
+import org.model.ValuationGrouping;
+import org.model.ValuationRow;
 import org.service.*;
 import org.service.impl.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.validators.*;
 
+import java.time.Duration;
+import java.util.List;
+
 @Configuration
 public class ServiceConfig {
 
@@ -23,8 +35,19 @@ public class ServiceConfig {
     }
 
     @Bean
-    public ProductService productService(ProductDao productDao, CategoryDao categoryDao, ProductRequestValidator productRequestValidator) {
-        return new ProductServiceImpl(productDao, categoryDao, productRequestValidator);
+    public ExpiringLruCache<Long, Product> productCache(@Value("${product.cache.max-size:10000}") int maxSize,
+                                                        @Value("${product.cache.ttl-seconds:300}") long ttlSeconds) {
+        return new ExpiringLruCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Bean
+    public ProductService productService(ProductDao productDao, CategoryDao categoryDao, ProductRequestValidator productRequestValidator, RepriceRequestValidator repriceRequestValidator, ExpiringLruCache<Long, Product> productCache) {
+        return new ProductServiceImpl(productDao, categoryDao, productRequestValidator, repriceRequestValidator, productCache);
+    }
+
+    @Bean
+    public ProductCatalogExporter productCatalogExporter(ProductDao productDao) {
+        return new ProductCatalogExporter(productDao);
     }
 
     @Bean
@@ -32,13 +55,78 @@ public class ServiceConfig {
         return new LocationServiceImpl(locationDao);
     }
 
+    @Bean(initMethod = "reload")
+    @DependsOn("schemaInitializer")
+    public LowStockEvaluator lowStockEvaluator(StockThresholdDao stockThresholdDao) {
+        LowStockEvaluator evaluator = new LowStockEvaluator(stockThresholdDao);
+        evaluator.addListener(new LoggingLowStockListener());
+        return evaluator;
+    }
+
+    @Bean
+    public InventoryService inventoryService(InventoryDao inventoryDao, ProductDao productDao, LocationDao locationDao, InventoryRequestValidator inventoryRequestValidator, LowStockEvaluator lowStockEvaluator, StockSummaryDao stockSummaryDao) {
+        return new InventoryServiceImpl(inventoryDao, productDao, locationDao, inventoryRequestValidator, lowStockEvaluator, stockSummaryDao);
+    }
+
+    @Bean
+    public StockSummaryService stockSummaryService(StockSummaryDao stockSummaryDao,
+                                                   @Value("${inventory.summary.check-range-size:1000}") int rangeSize) {
+        return new StockSummaryServiceImpl(stockSummaryDao, rangeSize);
+    }
+
+    @Bean(initMethod = "reload")
+    @DependsOn("schemaInitializer")
+    public StockReservationService stockReservationService(StockReservationDao stockReservationDao, InventoryService inventoryService, ReservationRequestValidator reservationRequestValidator,
+                                                               @Value("${inventory.reservation.default-ttl-seconds:900}") long defaultTtlSeconds) {
+        return new StockReservationServiceImpl(stockReservationDao, inventoryService, reservationRequestValidator, Duration.ofSeconds(defaultTtlSeconds));
+    }
+
+    @Bean
+    public StockThresholdService stockThresholdService(StockThresholdDao stockThresholdDao, ProductDao productDao, LocationDao locationDao, LowStockEvaluator lowStockEvaluator, StockThresholdRequestValidator stockThresholdRequestValidator) {
+        return new StockThresholdServiceImpl(stockThresholdDao, productDao, locationDao, lowStockEvaluator, stockThresholdRequestValidator);
+    }
+
+    @Bean
+    public InventoryLedgerService inventoryLedgerService(InventoryLedgerDao inventoryLedgerDao,
+                                                         @Value("${inventory.rebuild.parallelism:4}") int rebuildParallelism) {
+        return new InventoryLedgerServiceImpl(inventoryLedgerDao, rebuildParallelism);
+    }
+
+    @Bean
+    public CycleCountService cycleCountService(CycleCountDao cycleCountDao, LocationDao locationDao, LowStockEvaluator lowStockEvaluator) {
+        return new CycleCountServiceImpl(cycleCountDao, locationDao, lowStockEvaluator);
+    }
+
+    @Bean
+    public InventoryReportService inventoryReportService(InventoryReportDao inventoryReportDao,
+                                                         @Value("${inventory.report.cache-ttl-seconds:60}") long cacheTtlSeconds) {
+        ExpiringLruCache<ValuationGrouping, List<ValuationRow>> valuationCache =
+                new ExpiringLruCache<>(ValuationGrouping.values().length, Duration.ofSeconds(cacheTtlSeconds));
+        return new InventoryReportServiceImpl(inventoryReportDao, valuationCache);
+    }
+
+    @Bean
+    public SupplierService supplierService(SupplierDao supplierDao, SupplierRequestValidator supplierRequestValidator,
+                                           @Value("${supplier.count.cache-ttl-seconds:60}") long countCacheTtlSeconds) {
+        return new SupplierServiceImpl(supplierDao, supplierRequestValidator,
+                new ExpiringLruCache<>(1, Duration.ofSeconds(countCacheTtlSeconds)));
+    }
+
+    @Bean
+    public SupplierProductService supplierProductService(SupplierProductDao supplierProductDao, SupplierDao supplierDao, ProductDao productDao,
+                                                         SupplierProductRequestValidator supplierProductRequestValidator) {
+        return new SupplierProductServiceImpl(supplierProductDao, supplierDao, productDao, supplierProductRequestValidator);
+    }
+
     @Bean
-    public InventoryService inventoryService(InventoryDao inventoryDao, ProductDao productDao, LocationDao locationDao, InventoryRequestValidator inventoryRequestValidator) {
-        return new InventoryServiceImpl(inventoryDao, productDao, locationDao, inventoryRequestValidator);
+    public PurchaseOrderService purchaseOrderService(PurchaseOrderDao purchaseOrderDao, SupplierDao supplierDao, LocationDao locationDao,
+                                                     LowStockEvaluator lowStockEvaluator, PurchaseOrderRequestValidator purchaseOrderRequestValidator) {
+        return new PurchaseOrderServiceImpl(purchaseOrderDao, supplierDao, locationDao, lowStockEvaluator, purchaseOrderRequestValidator);
     }
 
     @Bean
-    public SupplierService supplierService(SupplierDao supplierDao, SupplierRequestValidator supplierRequestValidator) {
-        return new SupplierServiceImpl(supplierDao, supplierRequestValidator);
+    public ReorderService reorderService(ReorderDao reorderDao,
+                                         @Value("${inventory.reorder.parallelism:4}") int parallelism) {
+        return new ReorderServiceImpl(reorderDao, parallelism);
     }
 }
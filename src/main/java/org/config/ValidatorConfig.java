@@ -31,4 +31,29 @@ public class ValidatorConfig {
     public InventoryRequestValidator inventoryRequestValidator() {
         return new InventoryRequestValidator();
     }
+
+    @Bean
+    public StockThresholdRequestValidator stockThresholdRequestValidator() {
+        return new StockThresholdRequestValidator();
+    }
+
+    @Bean
+    public ReservationRequestValidator reservationRequestValidator() {
+        return new ReservationRequestValidator();
+    }
+
+    @Bean
+    public RepriceRequestValidator repriceRequestValidator() {
+        return new RepriceRequestValidator();
+    }
+
+    @Bean
+    public SupplierProductRequestValidator supplierProductRequestValidator() {
+        return new SupplierProductRequestValidator();
+    }
+
+    @Bean
+    public PurchaseOrderRequestValidator purchaseOrderRequestValidator() {
+        return new PurchaseOrderRequestValidator();
+    }
 }
@@ -0,0 +1,12 @@
+package org.dao;
+
+import java.math.BigDecimal;
+
+/**
+ * Receives one product row at a time from {@link ProductDao#exportCatalog(CatalogRowHandler)}
+ * without a {@code Product} being built for it.
+ */
+@FunctionalInterface
+public interface CatalogRowHandler {
+    void row(long id, String name, String description, BigDecimal price, String[] categories);
+}
@@ -2,6 +2,7 @@ package org.dao;
 
 import org.model.Category;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CategoryDao {
@@ -9,5 +10,6 @@ public interface CategoryDao {
     Category save(Category category);
     List<Category> findCategoryByProductId(Long productId);
     Category findByName(String name);
+    List<Category> findByNames(Collection<String> names);
     int deleteById(Long id);
 }
@@ -0,0 +1,9 @@
+package org.dao;
+
+import org.dto.CycleCountResult;
+
+import java.io.Reader;
+
+public interface CycleCountDao {
+    CycleCountResult reconcile(Long locationId, Reader counts, String reference);
+}
@@ -1,11 +1,25 @@
 package org.dao;
 
 import org.model.Inventory;
+import org.model.MovementReason;
+import org.model.StockLevel;
+import org.model.StockMovement;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 public interface InventoryDao {
     Boolean isInventoryExist(Long id);
     Inventory save(Inventory inventory);
     Inventory findById(Long id);
+    Map<Long, Inventory> findByIds(Collection<Long> ids);
+    Inventory findByProductAndLocation(Long productId, Long locationId);
+    List<Inventory> findAllByProduct(Long productId);
+    List<Inventory> findAllByLocation(Long locationId);
     Inventory update(Long id, Inventory inventory);
+    int adjust(Long productId, Long locationId, int delta);
+    int adjust(Long productId, Long locationId, int delta, MovementReason reason, String reference);
+    List<StockLevel> adjustAll(Collection<StockMovement> movements);
     int deleteById(Long id);
 }
@@ -0,0 +1,13 @@
+package org.dao;
+
+import org.model.InventoryMovement;
+
+import java.util.List;
+
+public interface InventoryLedgerDao {
+    List<InventoryMovement> findMovements(Long productId, Long locationId, Long afterId, int limit);
+    int currentQuantity(Long productId, Long locationId);
+    int snapshot();
+    List<Long> findLocationIds();
+    int rebuildLocation(Long locationId);
+}
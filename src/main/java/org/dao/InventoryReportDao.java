@@ -0,0 +1,10 @@
+package org.dao;
+
+import org.model.ValuationGrouping;
+import org.model.ValuationRow;
+
+import java.util.function.Consumer;
+
+public interface InventoryReportDao {
+    void valuation(ValuationGrouping grouping, Consumer<ValuationRow> consumer);
+}
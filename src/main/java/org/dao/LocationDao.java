@@ -2,10 +2,14 @@ package org.dao;
 
 import org.model.Location;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface LocationDao {
     Boolean isLocationExist(Long id, String name);
     Location save(Location location);
     Location findById(Long id);
+    Map<Long, Location> findByIds(Collection<Long> ids);
     Location findByName(String name);
     int deleteById(Long id);
 }
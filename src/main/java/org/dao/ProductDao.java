@@ -1,11 +1,30 @@
 package org.dao;
 
+import org.model.PriceAdjustment;
 import org.model.Product;
+import org.model.ProductSearchHit;
+import org.model.ProductSummary;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface ProductDao {
     Boolean isProductExists(Long id);
     Product save(Product product);
+    List<Product> saveAll(Collection<Product> products);
     Product findById(Long id);
+    Map<Long, Product> findByIds(Collection<Long> ids);
+    ProductSummary findSummaryById(Long id);
+    Map<Long, ProductSummary> findSummariesByIds(Collection<Long> ids);
+    List<Product> findPage(Long afterId, int limit);
+    void stream(Consumer<Product> consumer);
+    void exportCatalog(CatalogRowHandler handler);
+    List<ProductSearchHit> search(String query, Float afterRank, Long afterId, int limit);
     Product update(Long id, Product product);
+    Product updateIfVersion(Long id, Long expectedVersion, Product patch);
+    int repriceByCategory(Long categoryId, PriceAdjustment adjustment, BigDecimal value, String reason);
     int deleteById(Long id);
 }
@@ -0,0 +1,15 @@
+package org.dao;
+
+import org.model.PurchaseOrder;
+import org.model.StockLevel;
+
+import java.util.List;
+import java.util.Map;
+
+public interface PurchaseOrderDao {
+    PurchaseOrder save(Long supplierId, Long locationId, Map<Long, Integer> lines);
+    PurchaseOrder findById(Long id);
+    List<PurchaseOrder> findOpenByLocation(Long locationId);
+    List<StockLevel> receive(Long id, String reference);
+    int cancel(Long id);
+}
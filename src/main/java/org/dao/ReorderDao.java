@@ -0,0 +1,13 @@
+package org.dao;
+
+import org.model.ReorderSuggestion;
+import org.model.ReorderTotals;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface ReorderDao {
+    List<Long> findLocationIds();
+    ReorderTotals suggestForLocation(Long locationId);
+    void streamSuggestions(Long locationId, Consumer<ReorderSuggestion> consumer);
+}
@@ -0,0 +1,13 @@
+package org.dao;
+
+import org.model.StockReservation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StockReservationDao {
+    StockReservation save(StockReservation reservation);
+    List<StockReservation> findAllActive(LocalDateTime now);
+    int deleteById(Long id);
+    int deleteExpired(LocalDateTime now);
+}
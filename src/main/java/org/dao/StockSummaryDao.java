@@ -0,0 +1,11 @@
+package org.dao;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface StockSummaryDao {
+    long totalOnHand(Long productId);
+    Map<Long, Long> totalsOnHand(Collection<Long> productIds);
+    long maxProductId();
+    int repair(long afterProductId, long toProductId);
+}
@@ -0,0 +1,13 @@
+package org.dao;
+
+import org.model.StockKey;
+import org.model.StockThreshold;
+
+import java.util.List;
+
+public interface StockThresholdDao {
+    StockThreshold save(StockThreshold threshold);
+    List<StockThreshold> findAll();
+    List<StockKey> findBelowLowLevel();
+    int delete(Long productId, Long locationId);
+}
@@ -1,13 +1,21 @@
 package org.dao;
 
 import org.model.Supplier;
+import org.model.SupplierSearchHit;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface SupplierDao {
     Boolean isSupplierExists(Long id);
     Supplier save(Supplier supplier);
+    Map<String, Boolean> upsertAll(Collection<Supplier> suppliers);
     List<Supplier> findAll(int limit, int offset);
+    List<Supplier> findPage(String afterName, Long afterId, int limit);
+    List<SupplierSearchHit> search(String query, int limit);
+    long count();
+    long estimateCount();
     Supplier findById(Long id);
     Supplier update(Long id, Supplier supplier);
     int deleteById(Long id);
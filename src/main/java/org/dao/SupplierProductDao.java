@@ -0,0 +1,15 @@
+package org.dao;
+
+import org.model.SupplierProduct;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface SupplierProductDao {
+    SupplierProduct save(SupplierProduct supplierProduct);
+    List<SupplierProduct> findBySupplierId(Long supplierId);
+    SupplierProduct findCheapest(Long productId);
+    Map<Long, SupplierProduct> findCheapest(Collection<Long> productIds);
+    int delete(Long supplierId, Long productId);
+}
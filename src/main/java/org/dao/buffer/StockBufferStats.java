@@ -0,0 +1,22 @@
+package org.dao.buffer;
+
+/**
+ * Counters of a {@link StockMovementBuffer}.
+ *
+ * @param pendingMovements   movements recorded since the last successful flush
+ * @param flushes            flushes that wrote at least one movement
+ * @param failedFlushes      flushes whose write failed; their deltas were put back in the buffer
+ * @param flushedMovements   coalesced movements written to the database
+ * @param unmatchedMovements coalesced movements dropped because the product is not stocked at the location
+ * @param lastFlushNanos     duration of the most recent flush
+ * @param maxFlushNanos      longest flush so far
+ */
+public record StockBufferStats(
+    long pendingMovements,
+    long flushes,
+    long failedFlushes,
+    long flushedMovements,
+    long unmatchedMovements,
+    long lastFlushNanos,
+    long maxFlushNanos
+) { }
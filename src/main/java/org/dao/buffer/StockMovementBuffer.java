@@ -0,0 +1,185 @@
+package org.dao.buffer;
+
+import org.dao.InventoryDao;
+import org.model.StockKey;
+import org.model.StockLevel;
+import org.model.StockMovement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces high-frequency stock changes in memory and writes them to {@link InventoryDao#adjustAll}
+ * as one batched UPDATE, either every {@code flushInterval} or once {@code flushThreshold} movements
+ * are pending.<p>
+ * Each (product, location) has a striped {@link LongAdder}, so concurrent tills updating the same SKU do not
+ * contend. A failed flush puts its deltas back, and {@link #close()} flushes whatever is left on shutdown.
+ * Buffered movements skip the below-zero check of {@link InventoryDao#adjust}; use that for checkout paths
+ * that must refuse to oversell.
+ */
+public class StockMovementBuffer implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(StockMovementBuffer.class);
+
+    private final InventoryDao inventoryDao;
+    private final int flushThreshold;
+    private final Consumer<List<StockLevel>> flushListener;
+    private final ScheduledExecutorService scheduler;
+
+    private final ConcurrentHashMap<StockKey, LongAdder> deltas = new ConcurrentHashMap<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private long flushes;
+    private long failedFlushes;
+    private long flushedMovements;
+    private long unmatchedMovements;
+    private long lastFlushNanos;
+    private long maxFlushNanos;
+
+    public StockMovementBuffer(InventoryDao inventoryDao, Duration flushInterval, int flushThreshold) {
+        this(inventoryDao, flushInterval, flushThreshold, levels -> { });
+    }
+
+    /**
+     * @param flushListener receives the stock levels written by every successful flush
+     */
+    public StockMovementBuffer(InventoryDao inventoryDao, Duration flushInterval, int flushThreshold, Consumer<List<StockLevel>> flushListener) {
+        if (flushThreshold <= 0) {
+            throw new IllegalArgumentException("Flush threshold must be greater than 0");
+        }
+
+        this.inventoryDao = inventoryDao;
+        this.flushThreshold = flushThreshold;
+        this.flushListener = flushListener;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-movement-buffer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long intervalMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void add(Long productId, Long locationId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        deltas.computeIfAbsent(new StockKey(productId, locationId), key -> new LongAdder()).add(delta);
+        if (pending.incrementAndGet() >= flushThreshold && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * Write every pending delta with one batched UPDATE.
+     *
+     * @return the stock levels after the write
+     */
+    public synchronized List<StockLevel> flush() {
+        flushRequested.set(false);
+        long drained = pending.getAndSet(0);
+
+        List<StockMovement> batch = new ArrayList<>();
+        deltas.forEach((key, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                // A single movement carries an int; anything beyond that stays buffered for the next flush
+                int applied = (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, delta));
+                if (applied != delta) {
+                    adder.add(delta - applied);
+                    pending.incrementAndGet();
+                }
+                batch.add(new StockMovement(key.productId(), key.locationId(), applied));
+            }
+        });
+
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+
+        long start = System.nanoTime();
+        List<StockLevel> levels;
+        try {
+            levels = inventoryDao.adjustAll(batch);
+        } catch (RuntimeException e) {
+            for (StockMovement movement : batch) {
+                deltas.computeIfAbsent(movement.key(), key -> new LongAdder()).add(movement.delta());
+            }
+            pending.addAndGet(drained);
+            failedFlushes++;
+            throw e;
+        } finally {
+            lastFlushNanos = System.nanoTime() - start;
+            maxFlushNanos = Math.max(maxFlushNanos, lastFlushNanos);
+        }
+
+        Set<StockKey> applied = new HashSet<>();
+        levels.forEach(level -> applied.add(level.key()));
+        for (StockMovement movement : batch) {
+            if (!applied.contains(movement.key())) {
+                unmatchedMovements++;
+                log.warn("Dropped buffered stock movement {}, product is not stocked at the location", movement);
+            }
+        }
+
+        flushes++;
+        flushedMovements += batch.size();
+
+        try {
+            flushListener.accept(levels);
+        } catch (RuntimeException e) {
+            log.error("Stock movement flush listener failed", e);
+        }
+        return levels;
+    }
+
+    public synchronized StockBufferStats stats() {
+        return new StockBufferStats(pending.get(), flushes, failedFlushes, flushedMovements, unmatchedMovements, lastFlushNanos, maxFlushNanos);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            deltas.forEach((key, adder) -> {
+                long delta = adder.sum();
+                if (delta != 0) {
+                    log.error("Lost buffered stock movement product_id={} location_id={} delta={}", key.productId(), key.locationId(), delta);
+                }
+            });
+            throw e;
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Failed to flush buffered stock movements, will retry", e);
+        }
+    }
+}
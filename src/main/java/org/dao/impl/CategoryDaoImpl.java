@@ -6,19 +6,21 @@ import org.exception.DataNotFoundException;
 import org.model.Category;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import java.sql.PreparedStatement;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @AllArgsConstructor
 @Repository
 public class CategoryDaoImpl implements CategoryDao {
 
     private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
 
     @Override
     public Boolean isCategoryExists(Long id, String name) {
@@ -39,6 +41,7 @@ public class CategoryDaoImpl implements CategoryDao {
 
         if (rowAffected > 0) {
             category.setId(((Number) Objects.requireNonNull(keyHolder.getKeys()).get("id")).longValue());
+            idsByName.put(category.getName(), category.getId());
             return category;
         } else {
             throw new IllegalStateException("Failed to insert category into database");
@@ -79,6 +82,34 @@ public class CategoryDaoImpl implements CategoryDao {
         }
     }
 
+    /**
+     * Resolve category names to categories. Names are answered from an in-memory name to id dictionary;
+     * the ones not in it yet are loaded with a single query. Names that do not exist are left out of the result.
+     */
+    @Override
+    public List<Category> findByNames(Collection<String> names) {
+        Set<String> distinct = new LinkedHashSet<>(names);
+
+        String[] missing = distinct.stream()
+                .filter(name -> !idsByName.containsKey(name))
+                .toArray(String[]::new);
+        if (missing.length > 0) {
+            String sql = "SELECT id, name FROM categories WHERE name = ANY(?)";
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs ->
+                idsByName.put(rs.getString("name"), rs.getLong("id"))
+            , (Object) missing);
+        }
+
+        List<Category> categories = new ArrayList<>();
+        for (String name : distinct) {
+            Long id = idsByName.get(name);
+            if (id != null) {
+                categories.add(Category.builder().id(id).name(name).build());
+            }
+        }
+        return categories;
+    }
+
     @Override
     public int deleteById(Long id) {
         String sql = "DELETE FROM categories WHERE id = ?";
@@ -86,6 +117,7 @@ public class CategoryDaoImpl implements CategoryDao {
         if (rows == 0) {
             throw new DataNotFoundException("Category not found with a id: " + id);
         }
+        idsByName.values().remove(id);
         return rows;
     }
 }
@@ -0,0 +1,108 @@
+package org.dao.impl;
+
+import lombok.AllArgsConstructor;
+import org.dao.CycleCountDao;
+import org.dto.CycleCountResult;
+import org.model.CountDiscrepancy;
+import org.model.MovementReason;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reconciles a store's cycle count in three round trips: the count file is streamed into a temporary table
+ * with {@code COPY}, then a single statement diffs it against {@code inventory}, overwrites the rows that differ,
+ * writes their ledger movements and returns the discrepancies.
+ */
+@AllArgsConstructor
+@Repository
+public class CycleCountDaoImpl implements CycleCountDao {
+
+    private static final String CREATE_COUNT_TABLE = "CREATE TEMP TABLE cycle_count(" +
+            "product_id BIGINT NOT NULL, quantity INT NOT NULL CHECK (quantity >= 0)) ON COMMIT DROP";
+
+    private static final String COPY_COUNTS = "COPY cycle_count(product_id, quantity) FROM STDIN WITH (FORMAT csv, HEADER true)";
+
+    private static final String RECONCILE = "WITH counted AS (" +
+                "SELECT product_id, SUM(quantity)::int AS quantity FROM cycle_count GROUP BY product_id), " +
+            "diff AS (" +
+                "SELECT i.id, i.product_id, i.quantity AS expected, c.quantity AS counted " +
+                "FROM inventory i JOIN counted c ON c.product_id = i.product_id " +
+                "WHERE i.location_id = ? AND i.quantity <> c.quantity " +
+                "FOR UPDATE OF i), " +
+            "changed AS (" +
+                "UPDATE inventory i SET quantity = d.counted, updated_at = CURRENT_TIMESTAMP " +
+                "FROM diff d WHERE i.id = d.id " +
+                "RETURNING i.product_id, d.expected, d.counted), " +
+            "logged AS (" +
+                "INSERT INTO inventory_movements(product_id, location_id, delta, reason, reference) " +
+                "SELECT product_id, ?, counted - expected, ?, ? FROM changed) " +
+            "SELECT product_id, expected, counted FROM changed " +
+            "UNION ALL " +
+            "SELECT c.product_id, NULL, c.quantity FROM counted c " +
+            "WHERE NOT EXISTS (SELECT 1 FROM inventory i WHERE i.location_id = ? AND i.product_id = c.product_id) " +
+            "ORDER BY product_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Overwrite the stock of {@code locationId} with the counted quantities in {@code counts}, a CSV with a
+     * header line and {@code product_id,quantity} rows. Lines for the same product are added up; products
+     * that were not counted keep their stock.
+     */
+    @Transactional
+    @Override
+    public CycleCountResult reconcile(Long locationId, Reader counts, String reference) {
+        return jdbcTemplate.execute((ConnectionCallback<CycleCountResult>) conn -> {
+            try (Statement statement = conn.createStatement()) {
+                statement.execute(CREATE_COUNT_TABLE);
+            }
+
+            long lines;
+            try {
+                lines = conn.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_COUNTS, counts);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            List<CountDiscrepancy> corrected = new ArrayList<>();
+            List<Long> unknownProducts = new ArrayList<>();
+            try (PreparedStatement ps = conn.prepareStatement(RECONCILE)) {
+                ps.setLong(1, locationId);
+                ps.setLong(2, locationId);
+                ps.setString(3, MovementReason.STOCK_COUNT.name());
+                ps.setString(4, reference);
+                ps.setLong(5, locationId);
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        long productId = rs.getLong("product_id");
+                        Integer expected = rs.getObject("expected", Integer.class);
+                        if (expected == null) {
+                            unknownProducts.add(productId);
+                        } else {
+                            corrected.add(new CountDiscrepancy(productId, expected, rs.getInt("counted")));
+                        }
+                    }
+                }
+            }
+
+            try (Statement statement = conn.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS cycle_count");
+            }
+
+            return new CycleCountResult(locationId, lines, corrected, unknownProducts);
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package org.dao.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Splits id sets for {@code = ANY(?)} lookups so a single array parameter never grows without bound.
+ */
+final class IdChunks {
+
+    static final int MAX_IDS_PER_QUERY = 1000;
+
+    private IdChunks() { }
+
+    /**
+     * The distinct, non-null {@code ids} in chunks of at most {@code size}, ready to bind as {@code bigint[]}.
+     */
+    static List<Long[]> of(Collection<Long> ids, int size) {
+        Long[] distinct = ids.stream().filter(Objects::nonNull).distinct().toArray(Long[]::new);
+
+        List<Long[]> chunks = new ArrayList<>((distinct.length + size - 1) / size);
+        for (int from = 0; from < distinct.length; from += size) {
+            chunks.add(Arrays.copyOfRange(distinct, from, Math.min(from + size, distinct.length)));
+        }
+        return chunks;
+    }
+
+    static List<Long[]> of(Collection<Long> ids) {
+        return of(ids, MAX_IDS_PER_QUERY);
+    }
+}
@@ -3,11 +3,18 @@ package org.dao.impl;
 import lombok.AllArgsConstructor;
 import org.dao.InventoryDao;
 import org.exception.DataNotFoundException;
+import org.exception.InsufficientStockException;
 import org.model.Inventory;
 import org.model.Location;
+import org.model.MovementReason;
 import org.model.Product;
+import org.model.StockKey;
+import org.model.StockLevel;
+import org.model.StockMovement;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
@@ -19,14 +26,41 @@ import java.sql.PreparedStatement;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 
 @AllArgsConstructor
 @Repository
 public class InventoryDaoImpl implements InventoryDao {
 
+    private static final String SELECT_INVENTORY = "SELECT i.id AS inventory_id, i.quantity, i.updated_at, " +
+            "p.id AS product_id, p.name AS product_name, p.price, p.created_at, " +
+            "l.id AS location_id, l.name AS location_name " +
+            "FROM inventory i " +
+            "JOIN products p ON i.product_id = p.id " +
+            "JOIN locations l ON i.location_id = l.id ";
+
+    private static final RowMapper<Inventory> INVENTORY_ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return Inventory.builder()
+                .id(rs.getLong("inventory_id"))
+                .quantity(rs.getInt("quantity"))
+                .product(Product.builder()
+                        .id(rs.getLong("product_id"))
+                        .name(rs.getString("product_name"))
+                        .price(rs.getBigDecimal("price"))
+                        .created_at(createdAt != null ? createdAt.toLocalDateTime() : null)
+                        .build())
+                .location(Location.builder()
+                        .id(rs.getLong("location_id"))
+                        .name(rs.getString("location_name"))
+                        .build())
+                .updatedAt(updatedAt != null ? updatedAt.toLocalDateTime() : null)
+                .build();
+    };
+
+    private static final String INSERT_MOVEMENT = "INSERT INTO inventory_movements(product_id, location_id, delta, reason, reference) VALUES(?, ?, ?, ?, ?)";
+
     private final JdbcTemplate jdbcTemplate;
 
     @Override
@@ -55,6 +89,8 @@ public class InventoryDaoImpl implements InventoryDao {
 
         if (rows > 0) {
             inventory.setId(((Number) Objects.requireNonNull(keyHolder.getKeys()).get("id")).longValue());
+            jdbcTemplate.update(INSERT_MOVEMENT, inventory.getProduct().getId(), inventory.getLocation().getId(),
+                    inventory.getQuantity(), MovementReason.OPENING_BALANCE.name(), null);
             return inventory;
         } else {
             throw new IllegalStateException("Failed to insert inventory to database");
@@ -109,6 +145,44 @@ public class InventoryDaoImpl implements InventoryDao {
         }
     }
 
+    /**
+     * Look up many stock records with one query per {@value IdChunks#MAX_IDS_PER_QUERY} ids. Unknown ids are left out.
+     */
+    @Override
+    public Map<Long, Inventory> findByIds(Collection<Long> ids) {
+        String sql = SELECT_INVENTORY + "WHERE i.id = ANY(?)";
+        Map<Long, Inventory> inventories = new LinkedHashMap<>();
+        for (Long[] chunk : IdChunks.of(ids)) {
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+                Inventory inventory = INVENTORY_ROW_MAPPER.mapRow(rs, 0);
+                inventories.put(inventory.getId(), inventory);
+            }, (Object) chunk);
+        }
+        return inventories;
+    }
+
+    @Override
+    public Inventory findByProductAndLocation(Long productId, Long locationId) {
+        try {
+            String sql = SELECT_INVENTORY + "WHERE i.product_id = ? AND i.location_id = ?";
+            return jdbcTemplate.queryForObject(sql, INVENTORY_ROW_MAPPER, productId, locationId);
+        } catch (EmptyResultDataAccessException e) {
+            throw new DataNotFoundException("Inventory not found with product id: " + productId + " and location id: " + locationId);
+        }
+    }
+
+    @Override
+    public List<Inventory> findAllByProduct(Long productId) {
+        String sql = SELECT_INVENTORY + "WHERE i.product_id = ? ORDER BY i.location_id";
+        return jdbcTemplate.query(sql, INVENTORY_ROW_MAPPER, productId);
+    }
+
+    @Override
+    public List<Inventory> findAllByLocation(Long locationId) {
+        String sql = SELECT_INVENTORY + "WHERE i.location_id = ? ORDER BY i.product_id";
+        return jdbcTemplate.query(sql, INVENTORY_ROW_MAPPER, locationId);
+    }
+
     @Transactional
     @Override
     public Inventory update(Long id, Inventory inventory) {
@@ -125,7 +199,7 @@ public class InventoryDaoImpl implements InventoryDao {
             params.add(inventory.getLocation().getId());
         }
 
-        if (inventory.getQuantity() > 0) {
+        if (inventory.getQuantity() >= 0) {
             sb.append("quantity = ?, ");
             params.add(inventory.getQuantity());
         }
@@ -141,17 +215,129 @@ public class InventoryDaoImpl implements InventoryDao {
         sb.append(" WHERE id = ?");
         params.add(id);
 
+        String currentSql = "SELECT product_id, location_id, quantity FROM inventory WHERE id = ? FOR UPDATE";
+        List<StockLevel> current = jdbcTemplate.query(currentSql, (rs, rowNum) ->
+                new StockLevel(rs.getLong("product_id"), rs.getLong("location_id"), rs.getInt("quantity")), id);
+
         String sql = sb.toString();
         int rows = jdbcTemplate.update(sql, params.toArray());
 
+        if (rows > 0 && !current.isEmpty()) {
+            recordOverwrite(current.getFirst(), inventory);
+        }
+
         return rows > 0 ? inventory : null;
     }
 
+    /**
+     * Write the ledger rows for an in-place overwrite: moving a stock record to another product or location
+     * closes the old key and opens the new one, otherwise only the quantity difference is recorded.
+     */
+    private void recordOverwrite(StockLevel before, Inventory after) {
+        Long productId = after.getProduct().getId() > 0 ? after.getProduct().getId() : before.productId();
+        Long locationId = after.getLocation().getId() > 0 ? after.getLocation().getId() : before.locationId();
+        int quantity = after.getQuantity() >= 0 ? after.getQuantity() : before.quantity();
+
+        if (!before.key().equals(new StockKey(productId, locationId))) {
+            jdbcTemplate.update(INSERT_MOVEMENT, before.productId(), before.locationId(), -before.quantity(), MovementReason.CLOSING_BALANCE.name(), null);
+            jdbcTemplate.update(INSERT_MOVEMENT, productId, locationId, quantity, MovementReason.OPENING_BALANCE.name(), null);
+        } else if (quantity != before.quantity()) {
+            jdbcTemplate.update(INSERT_MOVEMENT, productId, locationId, quantity - before.quantity(), MovementReason.ADJUSTMENT.name(), null);
+        }
+    }
+
+    @Transactional
+    @Override
+    public int adjust(Long productId, Long locationId, int delta) {
+        return adjust(productId, locationId, delta, MovementReason.ADJUSTMENT, null);
+    }
+
+    /**
+     * Add {@code delta} to the stock of a product at a location and append it to the ledger in a single
+     * statement, refusing any change that would take the quantity below zero.
+     *
+     * @param reference optional id of the sale, order or document behind the change
+     * @return the quantity after the change
+     * @throws InsufficientStockException if the stock is too low for a negative delta
+     * @throws DataNotFoundException if the product is not stocked at the location
+     */
+    @Transactional
+    @Override
+    public int adjust(Long productId, Long locationId, int delta, MovementReason reason, String reference) {
+        String sql = "WITH changed AS (" +
+                "UPDATE inventory SET quantity = quantity + ?, updated_at = CURRENT_TIMESTAMP " +
+                "WHERE product_id = ? AND location_id = ? AND quantity + ? >= 0 " +
+                "RETURNING product_id, location_id, quantity), " +
+                "logged AS (" +
+                "INSERT INTO inventory_movements(product_id, location_id, delta, reason, reference) " +
+                "SELECT product_id, location_id, ?, ?, ? FROM changed) " +
+                "SELECT quantity FROM changed";
+        List<Integer> quantities = jdbcTemplate.queryForList(sql, Integer.class, delta, productId, locationId, delta, delta, reason.name(), reference);
+        if (!quantities.isEmpty()) {
+            return quantities.getFirst();
+        }
+
+        String currentSql = "SELECT quantity FROM inventory WHERE product_id = ? AND location_id = ?";
+        List<Integer> current = jdbcTemplate.queryForList(currentSql, Integer.class, productId, locationId);
+        if (current.isEmpty()) {
+            throw new DataNotFoundException("Inventory not found with product id: " + productId + " and location id: " + locationId);
+        }
+        throw new InsufficientStockException("Insufficient stock for product id: " + productId + " at location id: " + locationId
+                + ", available " + current.getFirst() + ", requested " + -delta, current.getFirst(), -delta);
+    }
+
+    /**
+     * Apply many stock changes with one UPDATE and record them in the ledger as {@link MovementReason#ADJUSTMENT}.
+     * Changes to the same product and location are summed first.
+     * Unlike {@link #adjust(Long, Long, int)} this does not stop stock going below zero; movements for
+     * products not stocked at the location are ignored and missing from the result.
+     *
+     * @return the quantity of every row that was changed
+     */
+    @Transactional
+    @Override
+    public List<StockLevel> adjustAll(Collection<StockMovement> movements) {
+        Map<StockKey, Integer> deltas = new LinkedHashMap<>();
+        for (StockMovement movement : movements) {
+            deltas.merge(movement.key(), movement.delta(), Integer::sum);
+        }
+
+        if (deltas.isEmpty()) {
+            return List.of();
+        }
+
+        Long[] productIds = new Long[deltas.size()];
+        Long[] locationIds = new Long[deltas.size()];
+        Integer[] amounts = new Integer[deltas.size()];
+        int i = 0;
+        for (Map.Entry<StockKey, Integer> entry : deltas.entrySet()) {
+            productIds[i] = entry.getKey().productId();
+            locationIds[i] = entry.getKey().locationId();
+            amounts[i] = entry.getValue();
+            i++;
+        }
+
+        String sql = "WITH changed AS (" +
+                "UPDATE inventory i SET quantity = i.quantity + d.delta, updated_at = CURRENT_TIMESTAMP " +
+                "FROM unnest(?::bigint[], ?::bigint[], ?::int[]) AS d(product_id, location_id, delta) " +
+                "WHERE i.product_id = d.product_id AND i.location_id = d.location_id " +
+                "RETURNING i.product_id, i.location_id, i.quantity, d.delta), " +
+                "logged AS (" +
+                "INSERT INTO inventory_movements(product_id, location_id, delta, reason) " +
+                "SELECT product_id, location_id, delta, ? FROM changed) " +
+                "SELECT product_id, location_id, quantity FROM changed";
+        return jdbcTemplate.query(sql, (rs, rowNum) ->
+            new StockLevel(rs.getLong("product_id"), rs.getLong("location_id"), rs.getInt("quantity"))
+        , productIds, locationIds, amounts, MovementReason.ADJUSTMENT.name());
+    }
+
     @Transactional
     @Override
     public int deleteById(Long id) {
-        String sql = "DELETE FROM inventory WHERE id = ?";
-        int rows = jdbcTemplate.update(sql, id);
+        String sql = "WITH deleted AS (DELETE FROM inventory WHERE id = ? RETURNING product_id, location_id, quantity) " +
+                "INSERT INTO inventory_movements(product_id, location_id, delta, reason) " +
+                "SELECT product_id, location_id, -quantity, ? FROM deleted";
+        int rows = jdbcTemplate.update(sql, id, MovementReason.CLOSING_BALANCE.name());
         if (rows == 0) {
             throw new DataNotFoundException("Inventory not found with a id: " + id);
         }
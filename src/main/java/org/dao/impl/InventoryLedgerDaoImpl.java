@@ -0,0 +1,103 @@
+package org.dao.impl;
+
+import lombok.AllArgsConstructor;
+import org.dao.InventoryLedgerDao;
+import org.model.InventoryMovement;
+import org.model.MovementReason;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Reads and compacts the append-only {@code inventory_movements} ledger.<p>
+ * {@code inventory_snapshots} holds one checkpoint per product and location: the ledger total up to
+ * {@code last_movement_id}. Stock is the checkpoint plus the movements after it, so reads only touch the
+ * tail written since the last {@link #snapshot()}.
+ */
+@AllArgsConstructor
+@Repository
+public class InventoryLedgerDaoImpl implements InventoryLedgerDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<InventoryMovement> findMovements(Long productId, Long locationId, Long afterId, int limit) {
+        String sql = "SELECT id, product_id, location_id, delta, reason, reference, created_at " +
+                "FROM inventory_movements " +
+                "WHERE product_id = ? AND location_id = ? AND id > ? " +
+                "ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            return new InventoryMovement(
+                    rs.getLong("id"),
+                    rs.getLong("product_id"),
+                    rs.getLong("location_id"),
+                    rs.getInt("delta"),
+                    MovementReason.valueOf(rs.getString("reason")),
+                    rs.getString("reference"),
+                    createdAt != null ? createdAt.toLocalDateTime() : null);
+        }, productId, locationId, afterId != null ? afterId : 0L, limit);
+    }
+
+    @Override
+    public int currentQuantity(Long productId, Long locationId) {
+        String sql = "SELECT COALESCE(s.quantity, 0) + COALESCE((" +
+                "SELECT SUM(m.delta) FROM inventory_movements m " +
+                "WHERE m.product_id = k.product_id AND m.location_id = k.location_id " +
+                "AND m.id > COALESCE(s.last_movement_id, 0)), 0) " +
+                "FROM (SELECT ?::int AS product_id, ?::int AS location_id) k " +
+                "LEFT JOIN inventory_snapshots s ON s.product_id = k.product_id AND s.location_id = k.location_id";
+        Integer quantity = jdbcTemplate.queryForObject(sql, Integer.class, productId, locationId);
+        return quantity != null ? quantity : 0;
+    }
+
+    /**
+     * Fold the movements after the current checkpoints, up to the highest movement id visible when the snapshot
+     * starts, into new checkpoints. The ledger is not locked, so stock writes carry on meanwhile; movements
+     * committed after the watermark is read are left for the next snapshot.
+     *
+     * @return the number of checkpoints written
+     */
+    @Transactional
+    @Override
+    public int snapshot() {
+        Long watermark = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM inventory_movements", Long.class);
+
+        String sql = "INSERT INTO inventory_snapshots(product_id, location_id, quantity, last_movement_id, taken_at) " +
+                "SELECT m.product_id, m.location_id, COALESCE(s.quantity, 0) + SUM(m.delta), MAX(m.id), CURRENT_TIMESTAMP " +
+                "FROM inventory_movements m " +
+                "LEFT JOIN inventory_snapshots s ON s.product_id = m.product_id AND s.location_id = m.location_id " +
+                "WHERE m.id > COALESCE(s.last_movement_id, 0) AND m.id <= ? " +
+                "GROUP BY m.product_id, m.location_id, s.quantity " +
+                "ON CONFLICT (product_id, location_id) DO UPDATE SET " +
+                "quantity = EXCLUDED.quantity, last_movement_id = EXCLUDED.last_movement_id, taken_at = EXCLUDED.taken_at";
+        return jdbcTemplate.update(sql, watermark);
+    }
+
+    @Override
+    public List<Long> findLocationIds() {
+        String sql = "SELECT DISTINCT location_id FROM inventory ORDER BY location_id";
+        return jdbcTemplate.queryForList(sql, Long.class);
+    }
+
+    /**
+     * Replay the full ledger of one location and overwrite every {@code inventory} row that disagrees with it.
+     * The stock rows are locked first so no adjustment can commit between reading the ledger and writing back.
+     *
+     * @return the number of corrected rows
+     */
+    @Transactional
+    @Override
+    public int rebuildLocation(Long locationId) {
+        jdbcTemplate.query("SELECT id FROM inventory WHERE location_id = ? FOR UPDATE", rs -> { }, locationId);
+
+        String sql = "UPDATE inventory i SET quantity = l.quantity, updated_at = CURRENT_TIMESTAMP " +
+                "FROM (SELECT product_id, SUM(delta) AS quantity FROM inventory_movements " +
+                "WHERE location_id = ? GROUP BY product_id) l " +
+                "WHERE i.location_id = ? AND i.product_id = l.product_id AND i.quantity <> l.quantity";
+        return jdbcTemplate.update(sql, locationId, locationId);
+    }
+}
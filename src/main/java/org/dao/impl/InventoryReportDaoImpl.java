@@ -0,0 +1,72 @@
+package org.dao.impl;
+
+import lombok.AllArgsConstructor;
+import org.dao.InventoryReportDao;
+import org.model.ValuationGrouping;
+import org.model.ValuationRow;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+@AllArgsConstructor
+@Repository
+public class InventoryReportDaoImpl implements InventoryReportDao {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Aggregate stock value in the database and pass each group to {@code consumer} through a cursor.
+     * Groups are ordered by location id, then category id with uncategorised stock last.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public void valuation(ValuationGrouping grouping, Consumer<ValuationRow> consumer) {
+        boolean byLocation = grouping != ValuationGrouping.CATEGORY;
+        boolean byCategory = grouping != ValuationGrouping.LOCATION;
+        String sql = valuationSql(byLocation, byCategory);
+
+        jdbcTemplate.query(conn -> {
+            PreparedStatement ps = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new ValuationRow(
+                byLocation ? rs.getLong("location_id") : null,
+                byLocation ? rs.getString("location_name") : null,
+                byCategory ? rs.getObject("category_id", Long.class) : null,
+                byCategory ? rs.getString("category_name") : null,
+                rs.getLong("quantity"),
+                rs.getBigDecimal("value"))));
+    }
+
+    private static String valuationSql(boolean byLocation, boolean byCategory) {
+        StringBuilder select = new StringBuilder("SELECT ");
+        StringBuilder from = new StringBuilder("FROM inventory i JOIN products p ON p.id = i.product_id ");
+        StringBuilder groupBy = new StringBuilder();
+        StringBuilder orderBy = new StringBuilder();
+
+        if (byLocation) {
+            select.append("l.id AS location_id, l.name AS location_name, ");
+            from.append("JOIN locations l ON l.id = i.location_id ");
+            groupBy.append("l.id, l.name");
+            orderBy.append("l.id");
+        }
+
+        if (byCategory) {
+            select.append("c.id AS category_id, c.name AS category_name, ");
+            from.append("LEFT JOIN products_categories pc ON pc.product_id = p.id ")
+                    .append("LEFT JOIN categories c ON c.id = pc.category_id ");
+            groupBy.append(groupBy.isEmpty() ? "" : ", ").append("c.id, c.name");
+            orderBy.append(orderBy.isEmpty() ? "" : ", ").append("c.id NULLS LAST");
+        }
+
+        select.append("SUM(i.quantity) AS quantity, COALESCE(SUM(i.quantity * p.price), 0) AS value ");
+        return select.append(from).append("GROUP BY ").append(groupBy).append(" ORDER BY ").append(orderBy).toString();
+    }
+}
@@ -6,12 +6,16 @@ import org.exception.DataNotFoundException;
 import org.model.Location;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import java.sql.PreparedStatement;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 @AllArgsConstructor
@@ -60,6 +64,24 @@ public class LocationDaoImpl implements LocationDao {
         }
     }
 
+    /**
+     * Look up many locations with one query per {@value IdChunks#MAX_IDS_PER_QUERY} ids. Unknown ids are left out.
+     */
+    @Override
+    public Map<Long, Location> findByIds(Collection<Long> ids) {
+        String sql = "SELECT id, name FROM locations WHERE id = ANY(?)";
+        Map<Long, Location> locations = new LinkedHashMap<>();
+        for (Long[] chunk : IdChunks.of(ids)) {
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs ->
+                locations.put(rs.getLong("id"), Location.builder()
+                        .id(rs.getLong("id"))
+                        .name(rs.getString("name"))
+                        .build())
+            , (Object) chunk);
+        }
+        return locations;
+    }
+
     @Override
     public Location findByName(String name) {
         try {
@@ -2,12 +2,20 @@ package org.dao.impl;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.dao.CatalogRowHandler;
 import org.dao.ProductDao;
 import org.exception.DataNotFoundException;
+import org.exception.VersionConflictException;
 import org.model.Category;
+import org.model.PriceAdjustment;
 import org.model.Product;
+import org.model.ProductSearchHit;
+import org.model.ProductSummary;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
@@ -15,14 +23,21 @@ import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @AllArgsConstructor
 @Repository
 public class ProductDaoImpl implements ProductDao {
 
+    private static final int STREAM_FETCH_SIZE = 500;
+
     private final JdbcTemplate jdbcTemplate;
 
     @Override
@@ -51,21 +66,74 @@ public class ProductDaoImpl implements ProductDao {
 
         if (rowsAffected > 0) {
             product.setId(((Number) Objects.requireNonNull(keyHolder.getKeys()).get("id")).longValue());
+            insertProductCategories(List.of(product));
+            return product;
+        } else {
+            throw new IllegalStateException("Failed to insert product into database");
+        }
+    }
+
+    @Transactional(
+            propagation = Propagation.REQUIRED,
+            rollbackFor = Exception.class,
+            isolation = Isolation.READ_COMMITTED
+    )
+    @Override
+    public List<Product> saveAll(Collection<Product> products) {
+        if (products.isEmpty()) {
+            return List.of();
+        }
 
+        List<Product> batch = new ArrayList<>(products);
+        String sql = "INSERT INTO products(name, description, price) VALUES(?, ?, ?)";
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(conn -> conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Product product = batch.get(i);
+                        ps.setString(1, product.getName());
+                        ps.setString(2, product.getDescription());
+                        ps.setBigDecimal(3, product.getPrice());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != batch.size()) {
+            throw new IllegalStateException("Failed to insert products into database, expected " + batch.size() + " keys but got " + keys.size());
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).setId(((Number) keys.get(i).get("id")).longValue());
+        }
+
+        insertProductCategories(batch);
+        return batch;
+    }
+
+    private void insertProductCategories(List<Product> products) {
+        List<Object[]> links = new ArrayList<>();
+        for (Product product : products) {
             for (Category category : product.getCategories()) {
-                String pcSql = "INSERT INTO products_categories(product_id, category_id) VALUES (?, ?)";
-                jdbcTemplate.update(pcSql, product.getId(), category.getId());
+                links.add(new Object[] { product.getId(), category.getId() });
             }
+        }
 
-            return product;
-        } else {
-            throw new IllegalStateException("Failed to insert product into database");
+        if (!links.isEmpty()) {
+            String sql = "INSERT INTO products_categories(product_id, category_id) VALUES (?, ?)";
+            jdbcTemplate.batchUpdate(sql, links);
         }
     }
 
     @Override
     public Product findById(Long id) {
-        String sql = "SELECT p.id AS product_id, p.name, p.description, p.price, p.created_at, c.id AS category_id, c.name AS category_name " +
+        String sql = "SELECT p.id AS product_id, p.name, p.description, p.price, p.created_at, p.version, c.id AS category_id, c.name AS category_name " +
                 "FROM products p " +
                 "JOIN products_categories pc ON pc.product_id = p.id " +
                 "JOIN categories c ON c.id = pc.category_id " +
@@ -91,6 +159,7 @@ public class ProductDaoImpl implements ProductDao {
                             .description(rs.getString("description"))
                             .price(rs.getBigDecimal("price"))
                             .created_at(rs.getTimestamp("created_at").toLocalDateTime())
+                            .version(rs.getLong("version"))
                             .categories(categories)
                             .build();
                 }
@@ -104,39 +173,213 @@ public class ProductDaoImpl implements ProductDao {
         },id);
     }
 
-    @Transactional
-    private void updateProductCategories(Product product) {
-        String sql = "SELECT c.id, c.name FROM categories c " +
-                "JOIN products_categories pc ON c.id = pc.category_id " +
-                "WHERE pc.product_id = ?";
+    @Override
+    public ProductSummary findSummaryById(Long id) {
+        try {
+            String sql = "SELECT id, name, price FROM products WHERE id = ?";
+            return jdbcTemplate.queryForObject(sql, (rs, rowNum) ->
+                new ProductSummary(rs.getLong("id"), rs.getString("name"), rs.getBigDecimal("price"))
+            , id);
+        } catch (EmptyResultDataAccessException e) {
+            throw new DataNotFoundException("Product not found with id: " + id);
+        }
+    }
+
+    /**
+     * Return the summaries of the given products keyed by id; ids that do not exist are left out.
+     */
+    @Override
+    public Map<Long, ProductSummary> findSummariesByIds(Collection<Long> ids) {
+        Map<Long, ProductSummary> summaries = new LinkedHashMap<>();
+        String sql = "SELECT id, name, price FROM products WHERE id = ANY(?) ORDER BY id";
+        for (Long[] chunk : IdChunks.of(ids)) {
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs ->
+                summaries.put(rs.getLong("id"), new ProductSummary(rs.getLong("id"), rs.getString("name"), rs.getBigDecimal("price")))
+            , (Object) chunk);
+        }
+        return summaries;
+    }
+
+    /**
+     * Look up many products with their categories, one query per {@value IdChunks#MAX_IDS_PER_QUERY} ids.
+     * Unknown ids are left out.
+     */
+    @Override
+    public Map<Long, Product> findByIds(Collection<Long> ids) {
+        String sql = "SELECT p.id AS product_id, p.name, p.description, p.price, p.created_at, p.version, c.id AS category_id, c.name AS category_name " +
+                "FROM products p " +
+                "LEFT JOIN products_categories pc ON pc.product_id = p.id " +
+                "LEFT JOIN categories c ON c.id = pc.category_id " +
+                "WHERE p.id = ANY(?) " +
+                "ORDER BY p.id";
+
+        Map<Long, Product> products = new LinkedHashMap<>();
+        for (Long[] chunk : IdChunks.of(ids)) {
+            jdbcTemplate.query(sql, (ResultSetExtractor<Void>) rs -> {
+                readProducts(rs, product -> products.put(product.getId(), product));
+                return null;
+            }, (Object) chunk);
+        }
+        return products;
+    }
+
+    /**
+     * Return up to {@code limit} products with an id greater than {@code afterId}, ordered by id.
+     * Pass the last id of a page to fetch the next one; {@code null} starts from the beginning.
+     */
+    @Override
+    public List<Product> findPage(Long afterId, int limit) {
+        String sql = "SELECT p.id AS product_id, p.name, p.description, p.price, p.created_at, p.version, c.id AS category_id, c.name AS category_name " +
+                "FROM (SELECT id, name, description, price, created_at, version FROM products WHERE id > ? ORDER BY id LIMIT ?) p " +
+                "LEFT JOIN products_categories pc ON pc.product_id = p.id " +
+                "LEFT JOIN categories c ON c.id = pc.category_id " +
+                "ORDER BY p.id";
+
+        List<Product> products = new ArrayList<>();
+        jdbcTemplate.query(sql, (ResultSetExtractor<Void>) rs -> {
+            readProducts(rs, products::add);
+            return null;
+        }, afterId == null ? 0L : afterId, limit);
+        return products;
+    }
+
+    /**
+     * Pass every product, in id order, to {@code consumer}. Rows are read through a server-side cursor,
+     * which PostgreSQL only opens inside a transaction, so memory use does not grow with the catalog.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public void stream(Consumer<Product> consumer) {
+        String sql = "SELECT p.id AS product_id, p.name, p.description, p.price, p.created_at, p.version, c.id AS category_id, c.name AS category_name " +
+                "FROM products p " +
+                "LEFT JOIN products_categories pc ON pc.product_id = p.id " +
+                "LEFT JOIN categories c ON c.id = pc.category_id " +
+                "ORDER BY p.id";
+
+        jdbcTemplate.query(conn -> {
+            PreparedStatement ps = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, (ResultSetExtractor<Void>) rs -> {
+            readProducts(rs, consumer);
+            return null;
+        });
+    }
+
+    /**
+     * Pass every product with its category names to {@code handler}, in id order, through a server-side cursor.
+     * Categories are collected per row by the database, so nothing is grouped or buffered on this side.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public void exportCatalog(CatalogRowHandler handler) {
+        String sql = "SELECT p.id, p.name, p.description, p.price, " +
+                "ARRAY(SELECT c.name FROM products_categories pc " +
+                    "JOIN categories c ON c.id = pc.category_id " +
+                    "WHERE pc.product_id = p.id ORDER BY c.name) AS categories " +
+                "FROM products p " +
+                "ORDER BY p.id";
+
+        jdbcTemplate.query(conn -> {
+            PreparedStatement ps = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs ->
+            handler.row(
+                    rs.getLong("id"),
+                    rs.getString("name"),
+                    rs.getString("description"),
+                    rs.getBigDecimal("price"),
+                    (String[]) rs.getArray("categories").getArray())
+        );
+    }
 
-        List<Category> existingCategories = jdbcTemplate.query(sql, (rs, rowNum) ->
-                        Category.builder()
-                                .id(rs.getLong("id"))
-                                .name(rs.getString("name"))
-                                .build()
-                , product.getId());
+    /**
+     * Full-text search over name and description using the GIN-indexed {@code search_vector} column.
+     * Hits are ordered by rank, best first, then by id; pass the rank and id of the last hit to get the next page.
+     */
+    @Override
+    public List<ProductSearchHit> search(String query, Float afterRank, Long afterId, int limit) {
+        StringBuilder sb = new StringBuilder("SELECT id, name, description, price, rank FROM (" +
+                "SELECT p.id, p.name, p.description, p.price, ts_rank(p.search_vector, q) AS rank " +
+                "FROM products p, websearch_to_tsquery('english', ?) q " +
+                "WHERE p.search_vector @@ q" +
+                ") hits ");
+        List<Object> params = new ArrayList<>();
+        params.add(query);
 
-        Set<Long> existingCategoryIds = existingCategories.stream().map(Category::getId).collect(Collectors.toSet());
-        Set<Long> newCategoryIds = product.getCategories().stream().map(Category::getId).collect(Collectors.toSet());
+        if (afterRank != null && afterId != null) {
+            sb.append("WHERE rank < ? OR (rank = ? AND id > ?) ");
+            params.add(afterRank);
+            params.add(afterRank);
+            params.add(afterId);
+        }
 
-        Set<Long> toAdd = new HashSet<>(newCategoryIds);
-        toAdd.removeAll(existingCategoryIds);
+        sb.append("ORDER BY rank DESC, id LIMIT ?");
+        params.add(limit);
+
+        return jdbcTemplate.query(sb.toString(), (rs, rowNum) ->
+                new ProductSearchHit(
+                        rs.getLong("id"),
+                        rs.getString("name"),
+                        rs.getString("description"),
+                        rs.getBigDecimal("price"),
+                        rs.getFloat("rank"))
+        , params.toArray());
+    }
+
+    private static void readProducts(ResultSet rs, Consumer<Product> consumer) throws SQLException {
+        Product current = null;
+        while (rs.next()) {
+            long productId = rs.getLong("product_id");
+            if (current == null || current.getId() != productId) {
+                if (current != null) {
+                    consumer.accept(current);
+                }
 
-        Set<Long> toRemove = new HashSet<>(existingCategoryIds);
-        toRemove.removeAll(newCategoryIds);
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                current = Product.builder()
+                        .id(productId)
+                        .name(rs.getString("name"))
+                        .description(rs.getString("description"))
+                        .price(rs.getBigDecimal("price"))
+                        .created_at(createdAt != null ? createdAt.toLocalDateTime() : null)
+                        .version(rs.getLong("version"))
+                        .categories(new ArrayList<>())
+                        .build();
+            }
 
-        for (Long categoryId : toRemove) {
-            jdbcTemplate.update("DELETE FROM products_categories WHERE product_id = ? AND category_id = ?",
-                    product.getId(), categoryId);
+            long categoryId = rs.getLong("category_id");
+            if (!rs.wasNull()) {
+                current.getCategories().add(Category.builder()
+                        .id(categoryId)
+                        .name(rs.getString("category_name"))
+                        .build());
+            }
         }
 
-        for (Long categoryId : toAdd) {
-            jdbcTemplate.update("INSERT INTO products_categories (product_id, category_id) VALUES (?, ?)",
-                    product.getId(), categoryId);
+        if (current != null) {
+            consumer.accept(current);
         }
     }
 
+    /**
+     * Make the category links of a product match {@code categories} with one DELETE and one INSERT,
+     * however many links change. Callers run it inside their own transaction.
+     */
+    private void syncProductCategories(Long productId, Collection<Category> categories) {
+        Long[] categoryIds = categories.stream()
+                .map(Category::getId)
+                .distinct()
+                .toArray(Long[]::new);
+
+        jdbcTemplate.update("DELETE FROM products_categories WHERE product_id = ? AND category_id <> ALL(?)",
+                productId, categoryIds);
+        jdbcTemplate.update("INSERT INTO products_categories(product_id, category_id) " +
+                        "SELECT ?, unnest(?::int[]) ON CONFLICT DO NOTHING",
+                productId, categoryIds);
+    }
+
     @Transactional
     @Override
     public Product update(Long id, Product product) {
@@ -158,27 +401,142 @@ public class ProductDaoImpl implements ProductDao {
             params.add(product.getPrice());
         }
 
-        if (!product.getCategories().isEmpty()) {
-            updateProductCategories(product);
-        }
+        boolean syncCategories = !product.getCategories().isEmpty();
 
         if (params.isEmpty()) {
             throw new IllegalArgumentException("No field to update");
         }
 
-        if (!sb.isEmpty()) {
-            sb.setLength(sb.length() - 2);
-        }
-
-        sb.append(" WHERE id = ?");
+        sb.append("version = version + 1 WHERE id = ?");
         params.add(id);
 
         String sql = sb.toString();
         int rowAffected = jdbcTemplate.update(sql, params.toArray());
 
+        if (rowAffected > 0 && syncCategories) {
+            syncProductCategories(id, product.getCategories());
+        }
+
         return rowAffected > 0 ? product : null;
     }
 
+    /**
+     * Apply the non-null fields of {@code patch} only if the product is still at {@code expectedVersion},
+     * and return the updated row with its new version. The row is updated and read back in one statement;
+     * category links are only rewritten when the patch changes them.
+     *
+     * @throws VersionConflictException if the product was changed since {@code expectedVersion} was read
+     * @throws DataNotFoundException if the product does not exist
+     */
+    @Transactional
+    @Override
+    public Product updateIfVersion(Long id, Long expectedVersion, Product patch) {
+        StringBuilder sb = new StringBuilder("WITH p AS (UPDATE products SET ");
+        List<Object> params = new ArrayList<>();
+
+        if (patch.getName() != null) {
+            sb.append("name = ?, ");
+            params.add(patch.getName());
+        }
+
+        if (patch.getDescription() != null) {
+            sb.append("description = ?, ");
+            params.add(patch.getDescription());
+        }
+
+        if (patch.getPrice() != null) {
+            sb.append("price = ?, ");
+            params.add(patch.getPrice());
+        }
+
+        boolean hasCategories = patch.getCategories() != null && !patch.getCategories().isEmpty();
+        if (params.isEmpty() && !hasCategories) {
+            throw new IllegalArgumentException("No field to update");
+        }
+
+        sb.append("version = version + 1 WHERE id = ? AND version = ? " +
+                "RETURNING id, name, description, price, created_at, version) " +
+                "SELECT p.id AS product_id, p.name, p.description, p.price, p.created_at, p.version, c.id AS category_id, c.name AS category_name " +
+                "FROM p " +
+                "LEFT JOIN products_categories pc ON pc.product_id = p.id " +
+                "LEFT JOIN categories c ON c.id = pc.category_id");
+        params.add(id);
+        params.add(expectedVersion);
+
+        List<Product> updated = new ArrayList<>();
+        jdbcTemplate.query(sb.toString(), (ResultSetExtractor<Void>) rs -> {
+            readProducts(rs, updated::add);
+            return null;
+        }, params.toArray());
+
+        if (updated.isEmpty()) {
+            List<Long> versions = jdbcTemplate.queryForList("SELECT version FROM products WHERE id = ?", Long.class, id);
+            if (versions.isEmpty()) {
+                throw new DataNotFoundException("Product not found with id: " + id);
+            }
+            throw new VersionConflictException("Product " + id + " was modified, expected version " + expectedVersion
+                    + " but found " + versions.getFirst(), versions.getFirst());
+        }
+
+        Product product = updated.getFirst();
+        if (hasCategories) {
+            Set<Long> current = product.getCategories().stream().map(Category::getId).collect(Collectors.toSet());
+            Set<Long> requested = patch.getCategories().stream().map(Category::getId).collect(Collectors.toSet());
+            if (!current.equals(requested)) {
+                syncProductCategories(id, patch.getCategories());
+                product.setCategories(new ArrayList<>(patch.getCategories()));
+            }
+        }
+
+        return product;
+    }
+
+    /**
+     * Reprice every product in a category with one set-based UPDATE and record each change in
+     * {@code product_price_history} in the same statement. Products whose price does not change are left alone.
+     *
+     * @return the number of products whose price changed
+     */
+    @Transactional
+    @Override
+    public int repriceByCategory(Long categoryId, PriceAdjustment adjustment, BigDecimal value, String reason) {
+        List<Object> params = new ArrayList<>();
+        String newPrice = switch (adjustment) {
+            case PERCENTAGE -> {
+                params.add(value);
+                yield "p.price * (100 + ?::numeric) / 100";
+            }
+            case ABSOLUTE -> {
+                params.add(value);
+                yield "p.price + ?::numeric";
+            }
+            case ROUND_TO -> {
+                params.add(value);
+                params.add(value);
+                yield "ROUND(p.price / ?::numeric) * ?::numeric";
+            }
+        };
+
+        String sql = "WITH target AS (" +
+                    "SELECT p.id, p.price AS old_price, GREATEST(ROUND(" + newPrice + ", 2), 0) AS new_price " +
+                    "FROM products p " +
+                    "JOIN products_categories pc ON pc.product_id = p.id " +
+                    "WHERE pc.category_id = ? " +
+                    "FOR UPDATE OF p" +
+                "), changed AS (" +
+                    "UPDATE products p SET price = t.new_price, version = p.version + 1 " +
+                    "FROM target t " +
+                    "WHERE p.id = t.id AND t.new_price <> t.old_price " +
+                    "RETURNING p.id, t.old_price, p.price" +
+                ") " +
+                "INSERT INTO product_price_history(product_id, old_price, new_price, reason) " +
+                "SELECT id, old_price, price, ? FROM changed";
+        params.add(categoryId);
+        params.add(reason);
+
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+
     @Transactional
     @Override
     public int deleteById(Long id) {
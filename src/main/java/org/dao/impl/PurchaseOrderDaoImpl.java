@@ -0,0 +1,156 @@
+package org.dao.impl;
+
+import lombok.AllArgsConstructor;
+import org.dao.PurchaseOrderDao;
+import org.exception.DataNotFoundException;
+import org.model.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.*;
+
+@AllArgsConstructor
+@Repository
+public class PurchaseOrderDaoImpl implements PurchaseOrderDao {
+
+    private static final String SELECT_ORDERS =
+            "SELECT po.id, po.supplier_id, po.location_id, po.status, po.created_at, po.received_at, " +
+            "l.product_id, l.quantity, l.unit_cost " +
+            "FROM purchase_orders po LEFT JOIN purchase_order_lines l ON l.purchase_order_id = po.id ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Create an open order whose lines are priced from the supplier's catalog.
+     *
+     * @throws IllegalArgumentException if the supplier does not offer a product or a quantity is below its
+     *                                  minimum order quantity; nothing is written in that case
+     */
+    @Transactional
+    @Override
+    public PurchaseOrder save(Long supplierId, Long locationId, Map<Long, Integer> lines) {
+        String insertOrder = "INSERT INTO purchase_orders(supplier_id, location_id, status) VALUES(?, ?, ?) " +
+                "RETURNING id, supplier_id, location_id, status, created_at, received_at";
+        PurchaseOrder order = jdbcTemplate.queryForObject(insertOrder, (rs, rowNum) -> mapOrder(rs),
+                supplierId, locationId, PurchaseOrderStatus.OPEN.name());
+        if (order == null) {
+            throw new IllegalStateException("Failed to insert purchase order into database");
+        }
+
+        Long[] productIds = new Long[lines.size()];
+        Integer[] quantities = new Integer[lines.size()];
+        int i = 0;
+        for (Map.Entry<Long, Integer> line : lines.entrySet()) {
+            productIds[i] = line.getKey();
+            quantities[i] = line.getValue();
+            i++;
+        }
+
+        String insertLines = "INSERT INTO purchase_order_lines(purchase_order_id, product_id, quantity, unit_cost) " +
+                "SELECT ?, l.product_id, l.quantity, sp.unit_cost " +
+                "FROM unnest(?::bigint[], ?::int[]) AS l(product_id, quantity) " +
+                "JOIN supplier_products sp ON sp.supplier_id = ? AND sp.product_id = l.product_id " +
+                "WHERE l.quantity >= sp.min_order_quantity " +
+                "RETURNING product_id, quantity, unit_cost";
+        List<PurchaseOrderLine> saved = jdbcTemplate.query(insertLines, (rs, rowNum) ->
+                new PurchaseOrderLine(rs.getLong("product_id"), rs.getInt("quantity"), rs.getBigDecimal("unit_cost")),
+                order.id(), productIds, quantities, supplierId);
+
+        if (saved.size() != lines.size()) {
+            Set<Long> rejected = new TreeSet<>(lines.keySet());
+            saved.forEach(line -> rejected.remove(line.productId()));
+            throw new IllegalArgumentException("Supplier " + supplierId +
+                    " does not offer these products at the ordered quantity: " + rejected);
+        }
+        return order.withLines(saved);
+    }
+
+    @Override
+    public PurchaseOrder findById(Long id) {
+        List<PurchaseOrder> orders = findOrders("WHERE po.id = ?", id);
+        if (orders.isEmpty()) {
+            throw new DataNotFoundException("Purchase order not found with a id: " + id);
+        }
+        return orders.getFirst();
+    }
+
+    /**
+     * Open orders of a location, oldest first, served by the partial index on open orders.
+     */
+    @Override
+    public List<PurchaseOrder> findOpenByLocation(Long locationId) {
+        return findOrders("WHERE po.location_id = ? AND po.status = 'OPEN'", locationId);
+    }
+
+    private List<PurchaseOrder> findOrders(String where, Object... args) {
+        Map<Long, PurchaseOrder> orders = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_ORDERS + where + " ORDER BY po.id, l.product_id", (RowCallbackHandler) rs -> {
+            PurchaseOrder order = orders.get(rs.getLong("id"));
+            if (order == null) {
+                order = mapOrder(rs).withLines(new ArrayList<>());
+                orders.put(order.id(), order);
+            }
+
+            long productId = rs.getLong("product_id");
+            if (!rs.wasNull()) {
+                order.lines().add(new PurchaseOrderLine(productId, rs.getInt("quantity"), rs.getBigDecimal("unit_cost")));
+            }
+        }, args);
+        return new ArrayList<>(orders.values());
+    }
+
+    private static PurchaseOrder mapOrder(ResultSet rs) throws SQLException {
+        Timestamp receivedAt = rs.getTimestamp("received_at");
+        return new PurchaseOrder(
+                rs.getLong("id"),
+                rs.getLong("supplier_id"),
+                rs.getLong("location_id"),
+                PurchaseOrderStatus.valueOf(rs.getString("status")),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                receivedAt == null ? null : receivedAt.toLocalDateTime(),
+                List.of());
+    }
+
+    /**
+     * Mark an open order received and add every line to the stock of its location in one statement: missing
+     * inventory rows are created, existing ones incremented, and each line is written to the ledger as a
+     * {@code RECEIPT}.
+     *
+     * @return the new stock levels, or an empty list if the order was not open
+     */
+    @Transactional
+    @Override
+    public List<StockLevel> receive(Long id, String reference) {
+        String sql = "WITH po AS (" +
+                "UPDATE purchase_orders SET status = 'RECEIVED', received_at = CURRENT_TIMESTAMP " +
+                "WHERE id = ? AND status = 'OPEN' RETURNING id, location_id), " +
+                "lines AS (" +
+                "SELECT l.product_id, po.location_id, l.quantity FROM purchase_order_lines l " +
+                "JOIN po ON po.id = l.purchase_order_id), " +
+                "stocked AS (" +
+                "INSERT INTO inventory(product_id, location_id, quantity) " +
+                "SELECT product_id, location_id, quantity FROM lines " +
+                "ON CONFLICT (product_id, location_id) DO UPDATE SET " +
+                "quantity = inventory.quantity + EXCLUDED.quantity, updated_at = CURRENT_TIMESTAMP " +
+                "RETURNING product_id, location_id, quantity), " +
+                "logged AS (" +
+                "INSERT INTO inventory_movements(product_id, location_id, delta, reason, reference) " +
+                "SELECT product_id, location_id, quantity, ?, ? FROM lines) " +
+                "SELECT product_id, location_id, quantity FROM stocked";
+        return jdbcTemplate.query(sql, (rs, rowNum) ->
+            new StockLevel(rs.getLong("product_id"), rs.getLong("location_id"), rs.getInt("quantity"))
+        , id, MovementReason.RECEIPT.name(), reference);
+    }
+
+    @Transactional
+    @Override
+    public int cancel(Long id) {
+        String sql = "UPDATE purchase_orders SET status = 'CANCELLED' WHERE id = ? AND status = 'OPEN'";
+        return jdbcTemplate.update(sql, id);
+    }
+}
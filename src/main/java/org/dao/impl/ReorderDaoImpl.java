@@ -0,0 +1,88 @@
+package org.dao.impl;
+
+import lombok.AllArgsConstructor;
+import org.dao.ReorderDao;
+import org.model.ReorderSuggestion;
+import org.model.ReorderTotals;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+@AllArgsConstructor
+@Repository
+public class ReorderDaoImpl implements ReorderDao {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> findLocationIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM locations ORDER BY id", Long.class);
+    }
+
+    /**
+     * Replace the suggestions of a location in one transaction. Every stock row with a threshold is compared in
+     * the database: when on-hand plus open purchase order quantity is at or below the low level, enough is
+     * suggested to reach the restock level from the cheapest supplier, rounded up to its minimum order quantity.
+     */
+    @Transactional
+    @Override
+    public ReorderTotals suggestForLocation(Long locationId) {
+        jdbcTemplate.update("DELETE FROM reorder_suggestions WHERE location_id = ?", locationId);
+
+        String sql = "WITH on_order AS (" +
+                "SELECT l.product_id, SUM(l.quantity) AS quantity FROM purchase_orders po " +
+                "JOIN purchase_order_lines l ON l.purchase_order_id = po.id " +
+                "WHERE po.location_id = ? AND po.status = 'OPEN' GROUP BY l.product_id), " +
+                "inserted AS (" +
+                "INSERT INTO reorder_suggestions(location_id, product_id, supplier_id, on_hand, on_order, reorder_point, quantity, unit_cost) " +
+                "SELECT i.location_id, i.product_id, sp.supplier_id, i.quantity, COALESCE(oo.quantity, 0), t.low_level, " +
+                "GREATEST(t.restock_level - i.quantity - COALESCE(oo.quantity, 0), COALESCE(sp.min_order_quantity, 1)), sp.unit_cost " +
+                "FROM inventory i " +
+                "JOIN stock_thresholds t ON t.product_id = i.product_id AND t.location_id = i.location_id " +
+                "LEFT JOIN on_order oo ON oo.product_id = i.product_id " +
+                "LEFT JOIN LATERAL (" +
+                "SELECT supplier_id, unit_cost, min_order_quantity FROM supplier_products " +
+                "WHERE product_id = i.product_id ORDER BY unit_cost, supplier_id LIMIT 1) sp ON true " +
+                "WHERE i.location_id = ? AND i.quantity + COALESCE(oo.quantity, 0) <= t.low_level " +
+                "RETURNING supplier_id, quantity, unit_cost) " +
+                "SELECT count(*) AS suggestions, count(*) FILTER (WHERE supplier_id IS NULL) AS unsourced, " +
+                "COALESCE(SUM(quantity * unit_cost), 0) AS estimated_cost FROM inserted";
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) ->
+                new ReorderTotals(rs.getLong("suggestions"), rs.getLong("unsourced"), rs.getBigDecimal("estimated_cost"))
+        , locationId, locationId);
+    }
+
+    /**
+     * Pass the current suggestions of a location to {@code consumer} through a cursor, ordered by supplier so
+     * they can be grouped into purchase orders as they arrive. Unsourced suggestions come last.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public void streamSuggestions(Long locationId, Consumer<ReorderSuggestion> consumer) {
+        String sql = "SELECT location_id, product_id, supplier_id, on_hand, on_order, reorder_point, quantity, unit_cost " +
+                "FROM reorder_suggestions WHERE location_id = ? ORDER BY supplier_id NULLS LAST, product_id";
+
+        jdbcTemplate.query(conn -> {
+            PreparedStatement ps = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            ps.setLong(1, locationId);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new ReorderSuggestion(
+                rs.getLong("location_id"),
+                rs.getLong("product_id"),
+                rs.getObject("supplier_id", Long.class),
+                rs.getInt("on_hand"),
+                rs.getInt("on_order"),
+                rs.getInt("reorder_point"),
+                rs.getInt("quantity"),
+                rs.getBigDecimal("unit_cost"))));
+    }
+}
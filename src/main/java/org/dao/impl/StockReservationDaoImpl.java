@@ -0,0 +1,71 @@
+package org.dao.impl;
+
+import lombok.AllArgsConstructor;
+import org.dao.StockReservationDao;
+import org.model.StockReservation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+@AllArgsConstructor
+@Repository
+public class StockReservationDaoImpl implements StockReservationDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    @Override
+    public StockReservation save(StockReservation reservation) {
+        String sql = "INSERT INTO stock_reservations(product_id, location_id, quantity, reference, expires_at) VALUES(?, ?, ?, ?, ?)";
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        int rows = jdbcTemplate.update(conn -> {
+            PreparedStatement ps = conn.prepareStatement(sql, new String[]{"id"});
+            ps.setLong(1, reservation.productId());
+            ps.setLong(2, reservation.locationId());
+            ps.setInt(3, reservation.quantity());
+            ps.setString(4, reservation.reference());
+            ps.setTimestamp(5, Timestamp.valueOf(reservation.expiresAt()));
+            return ps;
+        }, keyHolder);
+
+        if (rows == 0) {
+            throw new IllegalStateException("Failed to insert stock reservation to database");
+        }
+        return reservation.withId(Objects.requireNonNull(keyHolder.getKey()).longValue());
+    }
+
+    @Override
+    public List<StockReservation> findAllActive(LocalDateTime now) {
+        String sql = "SELECT id, product_id, location_id, quantity, reference, expires_at FROM stock_reservations WHERE expires_at > ?";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new StockReservation(
+                rs.getLong("id"),
+                rs.getLong("product_id"),
+                rs.getLong("location_id"),
+                rs.getInt("quantity"),
+                rs.getString("reference"),
+                rs.getTimestamp("expires_at").toLocalDateTime()), Timestamp.valueOf(now));
+    }
+
+    @Transactional
+    @Override
+    public int deleteById(Long id) {
+        String sql = "DELETE FROM stock_reservations WHERE id = ?";
+        return jdbcTemplate.update(sql, id);
+    }
+
+    @Transactional
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        String sql = "DELETE FROM stock_reservations WHERE expires_at <= ?";
+        return jdbcTemplate.update(sql, Timestamp.valueOf(now));
+    }
+}
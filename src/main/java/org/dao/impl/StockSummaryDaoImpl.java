@@ -0,0 +1,85 @@
+package org.dao.impl;
+
+import lombok.AllArgsConstructor;
+import org.dao.StockSummaryDao;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads {@code product_stock_summary}, the per-product total of {@code inventory} kept current by statement-level
+ * triggers on every insert, update and delete.
+ */
+@AllArgsConstructor
+@Repository
+public class StockSummaryDaoImpl implements StockSummaryDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long totalOnHand(Long productId) {
+        String sql = "SELECT quantity FROM product_stock_summary WHERE product_id = ?";
+        List<Long> quantities = jdbcTemplate.queryForList(sql, Long.class, productId);
+        return quantities.isEmpty() ? 0L : quantities.getFirst();
+    }
+
+    /**
+     * Totals for many products, one query per {@value IdChunks#MAX_IDS_PER_QUERY} ids. Products without stock are left out.
+     */
+    @Override
+    public Map<Long, Long> totalsOnHand(Collection<Long> productIds) {
+        String sql = "SELECT product_id, quantity FROM product_stock_summary WHERE product_id = ANY(?)";
+        Map<Long, Long> totals = new HashMap<>();
+        for (Long[] chunk : IdChunks.of(productIds)) {
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs ->
+                totals.put(rs.getLong("product_id"), rs.getLong("quantity"))
+            , (Object) chunk);
+        }
+        return totals;
+    }
+
+    @Override
+    public long maxProductId() {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM products", Long.class);
+        return max != null ? max : 0L;
+    }
+
+    /**
+     * Recompute the totals of products with an id in {@code (afterProductId, toProductId]} from {@code inventory}
+     * and add the drift to those that disagree.<p>
+     * The existing summary rows are locked first. A concurrent write either committed before the lock, and is part
+     * of the recomputed total, or waits for it and then adds its delta on top. The correction is applied as a delta
+     * rather than an overwrite, so a writer that creates a missing summary row while the repair runs keeps its own
+     * delta when the repair's insert falls through to the conflict branch.
+     *
+     * @return the number of corrected totals
+     */
+    @Transactional
+    @Override
+    public int repair(long afterProductId, long toProductId) {
+        jdbcTemplate.query("SELECT product_id FROM product_stock_summary WHERE product_id > ? AND product_id <= ? ORDER BY product_id FOR UPDATE",
+                rs -> { }, afterProductId, toProductId);
+
+        String sql = "WITH actual AS (" +
+                    "SELECT product_id, SUM(quantity) AS quantity FROM inventory " +
+                    "WHERE product_id > ? AND product_id <= ? GROUP BY product_id), " +
+                "summary AS (" +
+                    "SELECT product_id, quantity FROM product_stock_summary WHERE product_id > ? AND product_id <= ?), " +
+                "drift AS (" +
+                    "SELECT COALESCE(a.product_id, s.product_id) AS product_id, " +
+                    "COALESCE(a.quantity, 0) - COALESCE(s.quantity, 0) AS delta " +
+                    "FROM actual a FULL JOIN summary s ON s.product_id = a.product_id " +
+                    "WHERE s.quantity IS DISTINCT FROM COALESCE(a.quantity, 0)) " +
+                "INSERT INTO product_stock_summary(product_id, quantity) " +
+                "SELECT product_id, delta FROM drift " +
+                "ON CONFLICT (product_id) DO UPDATE SET " +
+                "quantity = product_stock_summary.quantity + EXCLUDED.quantity, updated_at = CURRENT_TIMESTAMP";
+        return jdbcTemplate.update(sql, afterProductId, toProductId, afterProductId, toProductId);
+    }
+}
@@ -0,0 +1,56 @@
+package org.dao.impl;
+
+import lombok.AllArgsConstructor;
+import org.dao.StockThresholdDao;
+import org.model.StockKey;
+import org.model.StockThreshold;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Repository
+public class StockThresholdDaoImpl implements StockThresholdDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    @Override
+    public StockThreshold save(StockThreshold threshold) {
+        String sql = "INSERT INTO stock_thresholds(product_id, location_id, low_level, restock_level) VALUES(?, ?, ?, ?) " +
+                "ON CONFLICT (product_id, location_id) DO UPDATE SET " +
+                "low_level = EXCLUDED.low_level, restock_level = EXCLUDED.restock_level, updated_at = CURRENT_TIMESTAMP";
+        int rows = jdbcTemplate.update(sql, threshold.productId(), threshold.locationId(), threshold.lowLevel(), threshold.restockLevel());
+        if (rows == 0) {
+            throw new IllegalStateException("Failed to save stock threshold to database");
+        }
+        return threshold;
+    }
+
+    @Override
+    public List<StockThreshold> findAll() {
+        String sql = "SELECT product_id, location_id, low_level, restock_level FROM stock_thresholds";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new StockThreshold(
+                rs.getLong("product_id"),
+                rs.getLong("location_id"),
+                rs.getInt("low_level"),
+                rs.getInt("restock_level")));
+    }
+
+    @Override
+    public List<StockKey> findBelowLowLevel() {
+        String sql = "SELECT t.product_id, t.location_id FROM stock_thresholds t " +
+                "JOIN inventory i ON i.product_id = t.product_id AND i.location_id = t.location_id " +
+                "WHERE i.quantity <= t.low_level";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new StockKey(rs.getLong("product_id"), rs.getLong("location_id")));
+    }
+
+    @Transactional
+    @Override
+    public int delete(Long productId, Long locationId) {
+        String sql = "DELETE FROM stock_thresholds WHERE product_id = ? AND location_id = ?";
+        return jdbcTemplate.update(sql, productId, locationId);
+    }
+}
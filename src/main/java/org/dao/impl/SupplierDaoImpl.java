@@ -4,8 +4,11 @@ import lombok.AllArgsConstructor;
 import org.dao.SupplierDao;
 import org.exception.DataNotFoundException;
 import org.model.Supplier;
+import org.model.SupplierSearchHit;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
@@ -15,18 +18,31 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @AllArgsConstructor
 @Repository
 public class SupplierDaoImpl implements SupplierDao {
 
+    private static final RowMapper<Supplier> SUPPLIER_ROW_MAPPER = (rs, rowNum) ->
+            Supplier.builder()
+                    .id(rs.getLong("id"))
+                    .name(rs.getString("name"))
+                    .contactName(rs.getString("contact_name"))
+                    .phoneNumber(rs.getString("phone"))
+                    .email(rs.getString("email"))
+                    .address(rs.getString("address"))
+                    .build();
+
     private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Boolean isSupplierExists(Long id) {
-        String sql = "SELECT EXISTS(SELECT 1 FROM supplier WHERE id = ?)";
+        String sql = "SELECT EXISTS(SELECT 1 FROM suppliers WHERE id = ?)";
         return jdbcTemplate.queryForObject(sql, Boolean.class, id);
     }
 
@@ -58,33 +74,123 @@ public class SupplierDaoImpl implements SupplierDao {
         }
     }
 
+    /**
+     * Insert or update the given suppliers with one statement, matching existing rows by name.<p>
+     * A supplier whose phone or email already belongs to a differently named supplier is skipped, so the other
+     * unique constraints never abort the statement.
+     *
+     * @return for each written supplier name, {@code true} if it was inserted and {@code false} if it was updated;
+     * skipped suppliers are absent
+     */
+    @Override
+    public Map<String, Boolean> upsertAll(Collection<Supplier> suppliers) {
+        if (suppliers.isEmpty()) {
+            return Map.of();
+        }
+
+        String[] names = new String[suppliers.size()];
+        String[] contactNames = new String[suppliers.size()];
+        String[] phones = new String[suppliers.size()];
+        String[] emails = new String[suppliers.size()];
+        String[] addresses = new String[suppliers.size()];
+        int i = 0;
+        for (Supplier supplier : suppliers) {
+            names[i] = supplier.getName();
+            contactNames[i] = supplier.getContactName();
+            phones[i] = supplier.getPhoneNumber();
+            emails[i] = supplier.getEmail();
+            addresses[i] = supplier.getAddress();
+            i++;
+        }
+
+        String sql = "WITH input AS (" +
+                "SELECT * FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[]) " +
+                "AS i(name, contact_name, phone, email, address)), " +
+                "upserted AS (" +
+                "INSERT INTO suppliers(name, contact_name, phone, email, address) " +
+                "SELECT name, contact_name, phone, email, address FROM input i " +
+                "WHERE NOT EXISTS (SELECT 1 FROM suppliers s WHERE (s.phone = i.phone OR s.email = i.email) AND s.name <> i.name) " +
+                "ON CONFLICT (name) DO UPDATE SET contact_name = EXCLUDED.contact_name, phone = EXCLUDED.phone, " +
+                "email = EXCLUDED.email, address = EXCLUDED.address, updated_at = CURRENT_TIMESTAMP " +
+                "RETURNING name, (xmax = 0) AS inserted) " +
+                "SELECT name, inserted FROM upserted";
+
+        Map<String, Boolean> written = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> written.put(rs.getString("name"), rs.getBoolean("inserted")),
+                names, contactNames, phones, emails, addresses);
+        return written;
+    }
+
+    /**
+     * Offset paging; the database still walks every skipped row, so prefer {@link #findPage} for deep pages.
+     */
     @Override
     public List<Supplier> findAll(int limit, int offset) {
-       String sql = "SELECT id, name, phone, email, address FROM suppliers limit = ? offset ?";
-       return jdbcTemplate.query(sql,(rs, rowNum) ->
-               Supplier.builder()
-                       .id(rs.getLong("id"))
-                       .name(rs.getString("name"))
-                       .phoneNumber(rs.getString("phone"))
-                       .email(rs.getString("email"))
-                       .address(rs.getString("address"))
-                       .build()
-       ,limit, offset);
+       String sql = "SELECT id, name, contact_name, phone, email, address FROM suppliers ORDER BY name, id LIMIT ? OFFSET ?";
+       return jdbcTemplate.query(sql, SUPPLIER_ROW_MAPPER, limit, offset);
+    }
+
+    /**
+     * Keyset paging over the {@code (name, id)} index: pass the name and id of the last supplier of the previous
+     * page, or {@code null} for the first page. Every page costs one index range scan of {@code limit} rows.
+     */
+    @Override
+    public List<Supplier> findPage(String afterName, Long afterId, int limit) {
+        if (afterName == null || afterId == null) {
+            String sql = "SELECT id, name, contact_name, phone, email, address FROM suppliers ORDER BY name, id LIMIT ?";
+            return jdbcTemplate.query(sql, SUPPLIER_ROW_MAPPER, limit);
+        }
+
+        String sql = "SELECT id, name, contact_name, phone, email, address FROM suppliers " +
+                "WHERE (name, id) > (?, ?) ORDER BY name, id LIMIT ?";
+        return jdbcTemplate.query(sql, SUPPLIER_ROW_MAPPER, afterName, afterId, limit);
+    }
+
+    /**
+     * Suppliers whose name, contact name or email contains a close match of {@code query}, best match first.
+     * The {@code <%} filters are answered from the trigram GIN indexes and combined with a bitmap OR, so the
+     * table is never scanned; only rows above {@code pg_trgm.word_similarity_threshold} are returned.
+     */
+    @Override
+    public List<SupplierSearchHit> search(String query, int limit) {
+        String sql = "SELECT id, name, contact_name, email, phone, " +
+                "GREATEST(word_similarity(?, name), word_similarity(?, contact_name), word_similarity(?, email)) AS similarity " +
+                "FROM suppliers " +
+                "WHERE ? <% name OR ? <% contact_name OR ? <% email " +
+                "ORDER BY similarity DESC, id LIMIT ?";
+        return jdbcTemplate.query(sql, (rs, rowNum) ->
+                new SupplierSearchHit(
+                        rs.getLong("id"),
+                        rs.getString("name"),
+                        rs.getString("contact_name"),
+                        rs.getString("email"),
+                        rs.getString("phone"),
+                        rs.getFloat("similarity"))
+        , query, query, query, query, query, query, limit);
+    }
+
+    @Override
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM suppliers", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * The planner's row estimate from {@code pg_class}, kept current by autovacuum. Returns -1 while the table
+     * has never been analyzed.
+     */
+    @Override
+    public long estimateCount() {
+        Long estimate = jdbcTemplate.queryForObject(
+                "SELECT reltuples::bigint FROM pg_class WHERE oid = 'suppliers'::regclass", Long.class);
+        return estimate == null ? -1 : estimate;
     }
 
     @Override
     public Supplier findById(Long id) {
         try {
-            String sql = "SELECT name, contact_name, phone, email, address FROM suppliers WHERE id = ?";
-            return jdbcTemplate.queryForObject(sql, (rs, rowNum) ->
-               Supplier.builder()
-                       .name(rs.getString("name"))
-                       .contactName(rs.getString("contact_name"))
-                       .phoneNumber(rs.getString("phone"))
-                       .email(rs.getString("email"))
-                       .address(rs.getString("address"))
-                       .build()
-            , id);
+            String sql = "SELECT id, name, contact_name, phone, email, address FROM suppliers WHERE id = ?";
+            return jdbcTemplate.queryForObject(sql, SUPPLIER_ROW_MAPPER, id);
         } catch (EmptyResultDataAccessException e) {
             throw new DataNotFoundException("Supplier not found with a id: " + id);
         }
@@ -0,0 +1,91 @@
+package org.dao.impl;
+
+import lombok.AllArgsConstructor;
+import org.dao.SupplierProductDao;
+import org.exception.DataNotFoundException;
+import org.model.SupplierProduct;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@AllArgsConstructor
+@Repository
+public class SupplierProductDaoImpl implements SupplierProductDao {
+
+    private static final RowMapper<SupplierProduct> SUPPLIER_PRODUCT_ROW_MAPPER = (rs, rowNum) -> new SupplierProduct(
+            rs.getLong("supplier_id"),
+            rs.getLong("product_id"),
+            rs.getBigDecimal("unit_cost"),
+            rs.getInt("lead_time_days"),
+            rs.getInt("min_order_quantity"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    @Override
+    public SupplierProduct save(SupplierProduct supplierProduct) {
+        String sql = "INSERT INTO supplier_products(supplier_id, product_id, unit_cost, lead_time_days, min_order_quantity) " +
+                "VALUES(?, ?, ?, ?, ?) ON CONFLICT (supplier_id, product_id) DO UPDATE SET " +
+                "unit_cost = EXCLUDED.unit_cost, lead_time_days = EXCLUDED.lead_time_days, " +
+                "min_order_quantity = EXCLUDED.min_order_quantity, updated_at = CURRENT_TIMESTAMP";
+        int rows = jdbcTemplate.update(sql, supplierProduct.supplierId(), supplierProduct.productId(), supplierProduct.unitCost(),
+                supplierProduct.leadTimeDays(), supplierProduct.minOrderQuantity());
+        if (rows == 0) {
+            throw new IllegalStateException("Failed to save supplier product to database");
+        }
+        return supplierProduct;
+    }
+
+    @Override
+    public List<SupplierProduct> findBySupplierId(Long supplierId) {
+        String sql = "SELECT supplier_id, product_id, unit_cost, lead_time_days, min_order_quantity FROM supplier_products " +
+                "WHERE supplier_id = ? ORDER BY product_id";
+        return jdbcTemplate.query(sql, SUPPLIER_PRODUCT_ROW_MAPPER, supplierId);
+    }
+
+    /**
+     * The lowest-cost offer for a product, read from the first entry of the {@code (product_id, unit_cost)} index.
+     * Ties go to the lowest supplier id.
+     */
+    @Override
+    public SupplierProduct findCheapest(Long productId) {
+        try {
+            String sql = "SELECT supplier_id, product_id, unit_cost, lead_time_days, min_order_quantity FROM supplier_products " +
+                    "WHERE product_id = ? ORDER BY unit_cost, supplier_id LIMIT 1";
+            return jdbcTemplate.queryForObject(sql, SUPPLIER_PRODUCT_ROW_MAPPER, productId);
+        } catch (EmptyResultDataAccessException e) {
+            throw new DataNotFoundException("No supplier offers product with a id: " + productId);
+        }
+    }
+
+    /**
+     * The lowest-cost offer for each product, one query per {@link IdChunks chunk} of ids.
+     * Products nobody offers are absent from the result.
+     */
+    @Override
+    public Map<Long, SupplierProduct> findCheapest(Collection<Long> productIds) {
+        Map<Long, SupplierProduct> cheapest = new HashMap<>();
+        String sql = "SELECT DISTINCT ON (product_id) supplier_id, product_id, unit_cost, lead_time_days, min_order_quantity " +
+                "FROM supplier_products WHERE product_id = ANY(?) ORDER BY product_id, unit_cost, supplier_id";
+
+        for (Long[] chunk : IdChunks.of(productIds)) {
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+                SupplierProduct offer = SUPPLIER_PRODUCT_ROW_MAPPER.mapRow(rs, 0);
+                cheapest.put(offer.productId(), offer);
+            }, (Object) chunk);
+        }
+        return cheapest;
+    }
+
+    @Transactional
+    @Override
+    public int delete(Long supplierId, Long productId) {
+        String sql = "DELETE FROM supplier_products WHERE supplier_id = ? AND product_id = ?";
+        return jdbcTemplate.update(sql, supplierId, productId);
+    }
+}
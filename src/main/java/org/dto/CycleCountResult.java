@@ -0,0 +1,19 @@
+package org.dto;
+
+import org.model.CountDiscrepancy;
+
+import java.util.List;
+
+/**
+ * Discrepancy report of one reconciled cycle count.
+ *
+ * @param lines           count lines loaded from the file
+ * @param corrected       products whose stock was overwritten with the counted quantity
+ * @param unknownProducts counted products that are not stocked at the location and were left out
+ */
+public record CycleCountResult(
+    Long locationId,
+    long lines,
+    List<CountDiscrepancy> corrected,
+    List<Long> unknownProducts
+) { }
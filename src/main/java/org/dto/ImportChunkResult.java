@@ -0,0 +1,20 @@
+package org.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of one chunk of a bulk import.
+ *
+ * @param chunk    zero-based index of the chunk within the import
+ * @param inserted rows written as new records
+ * @param updated  rows that replaced an existing record
+ * @param rejected rows skipped because of validation or write errors
+ * @param errors   one message per rejected row, or per failed chunk
+ */
+public record ImportChunkResult(
+    int chunk,
+    int inserted,
+    int updated,
+    int rejected,
+    List<String> errors
+) { }
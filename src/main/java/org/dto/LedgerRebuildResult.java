@@ -0,0 +1,16 @@
+package org.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of replaying the inventory ledger into {@code inventory}.
+ *
+ * @param locations locations that were replayed
+ * @param corrected stock rows whose quantity differed from the ledger and were overwritten
+ * @param errors    one message per location that failed to replay
+ */
+public record LedgerRebuildResult(
+    int locations,
+    int corrected,
+    List<String> errors
+) { }
@@ -0,0 +1,8 @@
+package org.dto;
+
+import java.util.Map;
+
+/**
+ * @param lines quantity to order keyed by product id
+ */
+public record PurchaseOrderRequest(Long supplierId, Long locationId, Map<Long, Integer> lines) { }
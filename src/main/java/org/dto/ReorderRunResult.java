@@ -0,0 +1,21 @@
+package org.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Outcome of a reorder suggestion run.
+ *
+ * @param locations     locations that were evaluated
+ * @param suggestions   suggestions written
+ * @param unsourced     suggestions for products no supplier offers
+ * @param estimatedCost cost of the sourced suggestions at the cheapest supplier
+ * @param errors        one message per location that failed; its previous suggestions are kept
+ */
+public record ReorderRunResult(
+    int locations,
+    long suggestions,
+    long unsourced,
+    BigDecimal estimatedCost,
+    List<String> errors
+) { }
@@ -0,0 +1,12 @@
+package org.dto;
+
+import org.model.PriceAdjustment;
+
+import java.math.BigDecimal;
+
+public record RepriceRequest(
+    String category,
+    PriceAdjustment adjustment,
+    BigDecimal value,
+    String reason
+) { }
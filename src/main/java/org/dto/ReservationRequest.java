@@ -0,0 +1,6 @@
+package org.dto;
+
+/**
+ * @param ttlSeconds how long the hold lasts; the configured default is used when empty
+ */
+public record ReservationRequest(Long productId, Long locationId, Integer quantity, String reference, Long ttlSeconds) { }
@@ -0,0 +1,3 @@
+package org.dto;
+
+public record StockThresholdRequest(Long productId, Long locationId, Integer lowLevel, Integer restockLevel) { }
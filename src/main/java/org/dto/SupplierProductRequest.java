@@ -0,0 +1,8 @@
+package org.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * @param minOrderQuantity smallest quantity the supplier accepts per order; 1 when empty
+ */
+public record SupplierProductRequest(Long supplierId, Long productId, BigDecimal unitCost, Integer leadTimeDays, Integer minOrderQuantity) { }
@@ -0,0 +1,20 @@
+package org.exception;
+
+public class InsufficientStockException extends RuntimeException {
+    private final int available;
+    private final int requested;
+
+    public InsufficientStockException(String message, int available, int requested) {
+        super(message);
+        this.available = available;
+        this.requested = requested;
+    }
+
+    public int getAvailable() {
+        return available;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+}
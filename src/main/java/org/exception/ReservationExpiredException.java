@@ -0,0 +1,7 @@
+package org.exception;
+
+public class ReservationExpiredException extends DataNotFoundException {
+    public ReservationExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package org.exception;
+
+public class VersionConflictException extends RuntimeException {
+    private final Long currentVersion;
+
+    public VersionConflictException(String message, Long currentVersion) {
+        super(message);
+        this.currentVersion = currentVersion;
+    }
+
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
@@ -0,0 +1,67 @@
+package org.export;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+class BinaryCatalogWriter extends CatalogWriter {
+
+    static final byte[] MAGIC = { 'R', 'M', 'P', 'C' };
+    static final byte VERSION = 1;
+
+    BinaryCatalogWriter(WritableByteChannel channel) {
+        super(channel);
+    }
+
+    @Override
+    void writeHeader() throws IOException {
+        ensure(MAGIC.length + 1);
+        buffer.put(MAGIC).put(VERSION);
+    }
+
+    @Override
+    void writeRow(long id, String name, String description, BigDecimal price, String[] categories) throws IOException {
+        byte[] nameBytes = encode(name);
+        byte[] descriptionBytes = encode(description);
+        byte[][] categoryBytes = new byte[categories.length][];
+
+        int length = Long.BYTES + Long.BYTES + stringSize(nameBytes) + stringSize(descriptionBytes) + Short.BYTES;
+        for (int i = 0; i < categories.length; i++) {
+            categoryBytes[i] = encode(categories[i]);
+            length += stringSize(categoryBytes[i]);
+        }
+
+        ensure(Integer.BYTES + Long.BYTES + Long.BYTES);
+        buffer.putInt(length)
+                .putLong(id)
+                .putLong(price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+        putString(nameBytes);
+        putString(descriptionBytes);
+
+        ensure(Short.BYTES);
+        buffer.putShort((short) categories.length);
+        for (byte[] category : categoryBytes) {
+            putString(category);
+        }
+    }
+
+    private static byte[] encode(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int stringSize(byte[] value) {
+        return Integer.BYTES + (value == null ? 0 : value.length);
+    }
+
+    private void putString(byte[] value) throws IOException {
+        ensure(Integer.BYTES);
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(value.length);
+        put(value);
+    }
+}
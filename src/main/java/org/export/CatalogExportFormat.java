@@ -0,0 +1,12 @@
+package org.export;
+
+public enum CatalogExportFormat {
+    /** RFC 4180 CSV with a header row; categories are joined with {@code |}. */
+    CSV,
+    /**
+     * Length-prefixed binary records after a {@code RMPC} magic and a version byte. Each record is an int32
+     * length followed by the int64 id, int64 price in cents, name, description and an int16 category count
+     * with the category names. Strings are an int32 byte length (-1 for null) and UTF-8 bytes; all big-endian.
+     */
+    BINARY
+}
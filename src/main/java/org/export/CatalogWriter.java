@@ -0,0 +1,67 @@
+package org.export;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Encodes catalog rows into a fixed-size buffer that is drained to a channel whenever it fills up.
+ */
+abstract class CatalogWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+    protected final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    protected CatalogWriter(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    abstract void writeHeader() throws IOException;
+
+    abstract void writeRow(long id, String name, String description, BigDecimal price, String[] categories) throws IOException;
+
+    void write(long id, String name, String description, BigDecimal price, String[] categories) {
+        try {
+            writeRow(id, name, description, price, categories);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            drain();
+        }
+    }
+
+    protected void put(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.capacity()) {
+            drain();
+            ByteBuffer large = ByteBuffer.wrap(bytes);
+            while (large.hasRemaining()) {
+                channel.write(large);
+            }
+            return;
+        }
+
+        ensure(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        drain();
+    }
+}
@@ -0,0 +1,60 @@
+package org.export;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+class CsvCatalogWriter extends CatalogWriter {
+
+    private final StringBuilder line = new StringBuilder(256);
+
+    CsvCatalogWriter(WritableByteChannel channel) {
+        super(channel);
+    }
+
+    @Override
+    void writeHeader() throws IOException {
+        put("id,name,description,price,categories\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    void writeRow(long id, String name, String description, BigDecimal price, String[] categories) throws IOException {
+        line.setLength(0);
+        line.append(id).append(',');
+        appendField(name);
+        line.append(',');
+        appendField(description);
+        line.append(',');
+        if (price != null) {
+            line.append(price.toPlainString());
+        }
+        line.append(',');
+        appendField(String.join("|", categories));
+        line.append("\r\n");
+
+        put(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void appendField(String value) {
+        if (value == null) {
+            return;
+        }
+
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+}
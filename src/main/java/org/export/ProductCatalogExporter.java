@@ -0,0 +1,53 @@
+package org.export;
+
+import lombok.AllArgsConstructor;
+import org.dao.ProductDao;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the product catalog to a file straight from a database cursor. Rows are encoded into a
+ * fixed-size buffer and never collected, so heap use stays flat however large the catalog is.
+ */
+@AllArgsConstructor
+public class ProductCatalogExporter {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ProductDao productDao;
+
+    /**
+     * @return the number of products written
+     */
+    public long export(Path target, CatalogExportFormat format, boolean gzip) throws IOException {
+        long[] rows = { 0 };
+
+        try (WritableByteChannel channel = open(target, gzip);
+             CatalogWriter writer = format == CatalogExportFormat.CSV ? new CsvCatalogWriter(channel) : new BinaryCatalogWriter(channel)) {
+            writer.writeHeader();
+            productDao.exportCatalog((id, name, description, price, categories) -> {
+                writer.write(id, name, description, price, categories);
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        return rows[0];
+    }
+
+    private static WritableByteChannel open(Path target, boolean gzip) throws IOException {
+        FileChannel file = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        if (!gzip) {
+            return file;
+        }
+        return Channels.newChannel(new GZIPOutputStream(Channels.newOutputStream(file), GZIP_BUFFER_SIZE));
+    }
+}
@@ -0,0 +1,11 @@
+package org.model;
+
+/**
+ * A product whose counted quantity differed from {@code inventory} and was corrected.
+ */
+public record CountDiscrepancy(Long productId, int expected, int counted) {
+
+    public int delta() {
+        return counted - expected;
+    }
+}
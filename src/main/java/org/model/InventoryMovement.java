@@ -0,0 +1,16 @@
+package org.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * One append-only row of the inventory ledger.
+ */
+public record InventoryMovement(
+    Long id,
+    Long productId,
+    Long locationId,
+    int delta,
+    MovementReason reason,
+    String reference,
+    LocalDateTime createdAt
+) { }
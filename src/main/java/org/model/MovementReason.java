@@ -0,0 +1,23 @@
+package org.model;
+
+/**
+ * Why the stock of a product at a location changed, recorded with every row of the inventory ledger.
+ */
+public enum MovementReason {
+    /** Quantity a stock record started with, including stock that existed before the ledger. */
+    OPENING_BALANCE,
+    /** Goods received from a supplier. */
+    RECEIPT,
+    SALE,
+    /** Goods returned by a customer. */
+    RETURN,
+    TRANSFER,
+    /** Damaged, expired or lost goods. */
+    WRITE_OFF,
+    /** Correction after a physical stock count. */
+    STOCK_COUNT,
+    /** Any other manual or system change. */
+    ADJUSTMENT,
+    /** Quantity removed when a stock record is deleted. */
+    CLOSING_BALANCE
+}
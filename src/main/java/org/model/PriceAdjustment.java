@@ -0,0 +1,13 @@
+package org.model;
+
+/**
+ * How a repricing value is applied to the current price. Every result is rounded to cents and never goes below zero.
+ */
+public enum PriceAdjustment {
+    /** Change the price by the given percentage, e.g. -15 for a 15% discount. */
+    PERCENTAGE,
+    /** Add the given amount to the price; negative amounts lower it. */
+    ABSOLUTE,
+    /** Round the price to the nearest multiple of the given step, e.g. 0.05. */
+    ROUND_TO
+}
@@ -21,5 +21,6 @@ public class Product {
     private BigDecimal price;
     private Collection<Category> categories;
     private LocalDateTime created_at;
+    private Long version;
 
 }
@@ -0,0 +1,15 @@
+package org.model;
+
+import java.math.BigDecimal;
+
+/**
+ * A product matched by full-text search. Pass the {@code rank} and {@code id} of the last hit back
+ * to the search to fetch the next page.
+ */
+public record ProductSearchHit(
+    Long id,
+    String name,
+    String description,
+    BigDecimal price,
+    float rank
+) { }
@@ -0,0 +1,18 @@
+package org.model;
+
+import java.math.BigDecimal;
+
+/**
+ * The columns of a product that list and lookup screens need, read without joining categories
+ * or loading the description.
+ */
+public record ProductSummary(Long id, String name, BigDecimal price) {
+
+    public Product toProduct() {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .price(price)
+                .build();
+    }
+}
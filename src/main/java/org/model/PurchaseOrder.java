@@ -0,0 +1,22 @@
+package org.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Goods ordered from a supplier for delivery to one location.
+ */
+public record PurchaseOrder(
+    Long id,
+    Long supplierId,
+    Long locationId,
+    PurchaseOrderStatus status,
+    LocalDateTime createdAt,
+    LocalDateTime receivedAt,
+    List<PurchaseOrderLine> lines
+) {
+
+    public PurchaseOrder withLines(List<PurchaseOrderLine> lines) {
+        return new PurchaseOrder(id, supplierId, locationId, status, createdAt, receivedAt, lines);
+    }
+}
@@ -0,0 +1,8 @@
+package org.model;
+
+import java.math.BigDecimal;
+
+/**
+ * @param unitCost the supplier's cost when the order was placed
+ */
+public record PurchaseOrderLine(Long productId, int quantity, BigDecimal unitCost) { }
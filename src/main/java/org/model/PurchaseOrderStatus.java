@@ -0,0 +1,8 @@
+package org.model;
+
+public enum PurchaseOrderStatus {
+    OPEN,
+    /** All lines were added to the stock of the order's location. */
+    RECEIVED,
+    CANCELLED
+}
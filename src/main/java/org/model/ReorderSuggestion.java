@@ -0,0 +1,23 @@
+package org.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Stock to order for a product at a location whose on-hand plus on-order quantity fell to its reorder point.
+ * {@code supplierId} and {@code unitCost} come from the cheapest offer and are {@code null} when no supplier
+ * offers the product.
+ *
+ * @param onOrder      quantity on open purchase orders for the location
+ * @param reorderPoint the threshold's low level
+ * @param quantity     enough to reach the restock level, at least the supplier's minimum order quantity
+ */
+public record ReorderSuggestion(
+    Long locationId,
+    Long productId,
+    Long supplierId,
+    int onHand,
+    int onOrder,
+    int reorderPoint,
+    int quantity,
+    BigDecimal unitCost
+) { }
@@ -0,0 +1,11 @@
+package org.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Suggestions written for one location by a reorder run.
+ *
+ * @param unsourced     suggestions for products no supplier offers
+ * @param estimatedCost sum of quantity × unit cost over the sourced suggestions
+ */
+public record ReorderTotals(long suggestions, long unsourced, BigDecimal estimatedCost) { }
@@ -0,0 +1,6 @@
+package org.model;
+
+/**
+ * Identifies the stock of one product at one location.
+ */
+public record StockKey(Long productId, Long locationId) { }
@@ -0,0 +1,11 @@
+package org.model;
+
+/**
+ * The quantity of a product at a location after a write.
+ */
+public record StockLevel(Long productId, Long locationId, int quantity) {
+
+    public StockKey key() {
+        return new StockKey(productId, locationId);
+    }
+}
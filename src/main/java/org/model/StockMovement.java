@@ -0,0 +1,11 @@
+package org.model;
+
+/**
+ * A change to the stock of a product at a location; negative deltas take stock out.
+ */
+public record StockMovement(Long productId, Long locationId, int delta) {
+
+    public StockKey key() {
+        return new StockKey(productId, locationId);
+    }
+}
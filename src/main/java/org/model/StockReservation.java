@@ -0,0 +1,25 @@
+package org.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stock held for a cart or pending order. It lowers what can be sold without touching {@code inventory.quantity}
+ * until it is committed, released or expires.
+ */
+public record StockReservation(
+    Long id,
+    Long productId,
+    Long locationId,
+    int quantity,
+    String reference,
+    LocalDateTime expiresAt
+) {
+
+    public StockKey key() {
+        return new StockKey(productId, locationId);
+    }
+
+    public StockReservation withId(Long id) {
+        return new StockReservation(id, productId, locationId, quantity, reference, expiresAt);
+    }
+}
@@ -0,0 +1,12 @@
+package org.model;
+
+/**
+ * Low-stock limits of a product at a location. An alert is raised when the quantity falls to
+ * {@code lowLevel} or below and cleared only once it is back at {@code restockLevel} or above.
+ */
+public record StockThreshold(Long productId, Long locationId, int lowLevel, int restockLevel) {
+
+    public StockKey key() {
+        return new StockKey(productId, locationId);
+    }
+}
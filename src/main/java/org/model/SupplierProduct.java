@@ -0,0 +1,14 @@
+package org.model;
+
+import java.math.BigDecimal;
+
+/**
+ * A product a supplier offers, with its purchase terms.
+ */
+public record SupplierProduct(
+    Long supplierId,
+    Long productId,
+    BigDecimal unitCost,
+    int leadTimeDays,
+    int minOrderQuantity
+) { }
@@ -0,0 +1,15 @@
+package org.model;
+
+/**
+ * A supplier matched by fuzzy search.
+ *
+ * @param similarity best trigram word similarity of the query to the name, contact name or email, from 0 to 1
+ */
+public record SupplierSearchHit(
+    Long id,
+    String name,
+    String contactName,
+    String email,
+    String phoneNumber,
+    float similarity
+) { }
@@ -0,0 +1,11 @@
+package org.model;
+
+/**
+ * How the inventory valuation report is grouped. A product in several categories counts towards each of them,
+ * so category totals can add up to more than the location totals.
+ */
+public enum ValuationGrouping {
+    LOCATION,
+    CATEGORY,
+    LOCATION_AND_CATEGORY
+}
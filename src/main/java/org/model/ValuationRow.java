@@ -0,0 +1,19 @@
+package org.model;
+
+import java.math.BigDecimal;
+
+/**
+ * One group of the inventory valuation report. Fields of a dimension the report is not grouped by are
+ * {@code null}; {@code categoryId} is also {@code null} for products without a category.
+ *
+ * @param quantity units in stock
+ * @param value    sum of quantity × current price
+ */
+public record ValuationRow(
+    Long locationId,
+    String locationName,
+    Long categoryId,
+    String categoryName,
+    long quantity,
+    BigDecimal value
+) { }
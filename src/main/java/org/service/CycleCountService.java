@@ -0,0 +1,10 @@
+package org.service;
+
+import org.dto.CycleCountResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public interface CycleCountService {
+    CycleCountResult reconcile(Long locationId, Path countFile, String reference) throws IOException;
+}
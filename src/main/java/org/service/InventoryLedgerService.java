@@ -0,0 +1,13 @@
+package org.service;
+
+import org.dto.LedgerRebuildResult;
+import org.model.InventoryMovement;
+
+import java.util.List;
+
+public interface InventoryLedgerService {
+    List<InventoryMovement> findMovements(Long productId, Long locationId, Long afterId, int limit);
+    int currentQuantity(Long productId, Long locationId);
+    int snapshot();
+    LedgerRebuildResult rebuild();
+}
@@ -0,0 +1,16 @@
+package org.service;
+
+import org.model.ValuationGrouping;
+import org.model.ValuationRow;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface InventoryReportService {
+    void streamValuation(ValuationGrouping grouping, Consumer<ValuationRow> consumer);
+    List<ValuationRow> valuation(ValuationGrouping grouping);
+    long exportValuation(ValuationGrouping grouping, Path target) throws IOException;
+    void invalidate();
+}
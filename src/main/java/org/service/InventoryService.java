@@ -2,10 +2,22 @@ package org.service;
 
 import org.dto.InventoryRequest;
 import org.model.Inventory;
+import org.model.MovementReason;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 public interface InventoryService {
     Inventory save(InventoryRequest request);
     Inventory findById(Long id);
+    Inventory findByProductAndLocation(Long productId, Long locationId);
+    List<Inventory> findAllByProduct(Long productId);
+    List<Inventory> findAllByLocation(Long locationId);
     Inventory update(Long id, InventoryRequest request);
+    int adjust(Long productId, Long locationId, int delta);
+    int adjust(Long productId, Long locationId, int delta, MovementReason reason, String reference);
+    long totalOnHand(Long productId);
+    Map<Long, Long> totalsOnHand(Collection<Long> productIds);
     int deleteById(Long id);
 }
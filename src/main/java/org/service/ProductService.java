@@ -1,11 +1,22 @@
 package org.service;
 
+import org.dto.ImportChunkResult;
 import org.dto.ProductRequest;
+import org.dto.RepriceRequest;
 import org.model.Product;
+import org.model.ProductSearchHit;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ProductService {
     Product save(ProductRequest request);
+    List<ImportChunkResult> importAll(Collection<ProductRequest> requests, int chunkSize);
     Product findById(Long id);
+    List<ProductSearchHit> search(String query, int limit);
+    List<ProductSearchHit> search(String query, Float afterRank, Long afterId, int limit);
     Product update(Long id, ProductRequest request);
+    Product update(Long id, Long expectedVersion, ProductRequest request);
+    int repriceCategory(RepriceRequest request);
     int deleteById(Long id);
 }
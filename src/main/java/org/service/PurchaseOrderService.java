@@ -0,0 +1,15 @@
+package org.service;
+
+import org.dto.PurchaseOrderRequest;
+import org.model.PurchaseOrder;
+import org.model.StockLevel;
+
+import java.util.List;
+
+public interface PurchaseOrderService {
+    PurchaseOrder create(PurchaseOrderRequest request);
+    PurchaseOrder findById(Long id);
+    List<PurchaseOrder> findOpenByLocation(Long locationId);
+    List<StockLevel> receive(Long id);
+    int cancel(Long id);
+}
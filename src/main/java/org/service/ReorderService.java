@@ -0,0 +1,11 @@
+package org.service;
+
+import org.dto.ReorderRunResult;
+import org.model.ReorderSuggestion;
+
+import java.util.function.Consumer;
+
+public interface ReorderService {
+    ReorderRunResult run();
+    void streamSuggestions(Long locationId, Consumer<ReorderSuggestion> consumer);
+}
@@ -0,0 +1,13 @@
+package org.service;
+
+import org.dto.ReservationRequest;
+import org.model.StockReservation;
+
+public interface StockReservationService {
+    StockReservation reserve(ReservationRequest request);
+    int commit(Long reservationId);
+    void release(Long reservationId);
+    int reserved(Long productId, Long locationId);
+    int available(Long productId, Long locationId);
+    int sweep();
+}
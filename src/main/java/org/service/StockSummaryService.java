@@ -0,0 +1,5 @@
+package org.service;
+
+public interface StockSummaryService {
+    int verifyAndRepair();
+}
@@ -0,0 +1,12 @@
+package org.service;
+
+import org.dto.StockThresholdRequest;
+import org.model.StockThreshold;
+
+import java.util.List;
+
+public interface StockThresholdService {
+    StockThreshold save(StockThresholdRequest request);
+    List<StockThreshold> findAll();
+    int delete(Long productId, Long locationId);
+}
@@ -0,0 +1,13 @@
+package org.service;
+
+import org.dto.SupplierProductRequest;
+import org.model.SupplierProduct;
+
+import java.util.List;
+
+public interface SupplierProductService {
+    SupplierProduct save(SupplierProductRequest request);
+    List<SupplierProduct> findBySupplierId(Long supplierId);
+    SupplierProduct findCheapest(Long productId);
+    int delete(Long supplierId, Long productId);
+}
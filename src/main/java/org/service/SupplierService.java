@@ -1,14 +1,21 @@
 package org.service;
 
+import org.dto.ImportChunkResult;
 import org.dto.SupplierRequest;
 import org.model.Supplier;
+import org.model.SupplierSearchHit;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface SupplierService {
     List<Supplier> findAll(int limit, int offset);
+    List<Supplier> findPage(String afterName, Long afterId, int limit);
+    List<SupplierSearchHit> search(String query, int limit);
+    long count();
     Supplier findById(Long id);
     Supplier save(SupplierRequest request);
+    List<ImportChunkResult> importAll(Collection<SupplierRequest> requests, int chunkSize);
     Supplier update(Long id, SupplierRequest request);
     int deleteById(Long id);
 }
@@ -0,0 +1,52 @@
+package org.service.impl;
+
+import lombok.AllArgsConstructor;
+import org.alert.LowStockEvaluator;
+import org.dao.CycleCountDao;
+import org.dao.LocationDao;
+import org.dto.CycleCountResult;
+import org.exception.DataNotFoundException;
+import org.model.CountDiscrepancy;
+import org.service.CycleCountService;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@AllArgsConstructor
+@Service
+public class CycleCountServiceImpl implements CycleCountService {
+
+    private final CycleCountDao cycleCountDao;
+    private final LocationDao locationDao;
+    private final LowStockEvaluator lowStockEvaluator;
+
+    /**
+     * Reconcile a store's cycle count file ({@code product_id,quantity} CSV with a header line) against its stock.
+     * Corrections are written as {@code STOCK_COUNT} ledger movements.
+     *
+     * @param reference optional id of the count, stored with every correction
+     */
+    @Override
+    public CycleCountResult reconcile(Long locationId, Path countFile, String reference) throws IOException {
+        if (!locationDao.isLocationExist(locationId, null)) {
+            throw new DataNotFoundException("Location not found with a id: " + locationId);
+        }
+
+        CycleCountResult result;
+        try (Reader reader = Files.newBufferedReader(countFile, StandardCharsets.UTF_8)) {
+            result = cycleCountDao.reconcile(locationId, reader, reference);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        for (CountDiscrepancy discrepancy : result.corrected()) {
+            lowStockEvaluator.evaluate(discrepancy.productId(), locationId, discrepancy.counted());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,95 @@
+package org.service.impl;
+
+import lombok.AllArgsConstructor;
+import org.dao.InventoryLedgerDao;
+import org.dto.LedgerRebuildResult;
+import org.model.InventoryMovement;
+import org.service.InventoryLedgerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@AllArgsConstructor
+@Service
+public class InventoryLedgerServiceImpl implements InventoryLedgerService {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryLedgerServiceImpl.class);
+
+    private final InventoryLedgerDao inventoryLedgerDao;
+    private final int rebuildParallelism;
+
+    @Override
+    public List<InventoryMovement> findMovements(Long productId, Long locationId, Long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be greater than 0");
+        }
+        return inventoryLedgerDao.findMovements(productId, locationId, afterId, limit);
+    }
+
+    /**
+     * Stock of a product at a location according to the ledger: the last checkpoint plus the movements after it.
+     */
+    @Override
+    public int currentQuantity(Long productId, Long locationId) {
+        return inventoryLedgerDao.currentQuantity(productId, locationId);
+    }
+
+    @Scheduled(
+            initialDelayString = "${inventory.snapshot.interval-ms:300000}",
+            fixedDelayString = "${inventory.snapshot.interval-ms:300000}"
+    )
+    @Override
+    public int snapshot() {
+        int checkpoints = inventoryLedgerDao.snapshot();
+        log.debug("Wrote {} inventory checkpoints", checkpoints);
+        return checkpoints;
+    }
+
+    /**
+     * Replay the ledger into {@code inventory}, one transaction per location and up to
+     * {@code rebuildParallelism} locations at a time. A failing location is reported and does not stop the others.
+     */
+    @Override
+    public LedgerRebuildResult rebuild() {
+        List<Long> locationIds = inventoryLedgerDao.findLocationIds();
+        if (locationIds.isEmpty()) {
+            return new LedgerRebuildResult(0, 0, List.of());
+        }
+
+        int corrected = 0;
+        List<String> errors = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(rebuildParallelism, locationIds.size()))) {
+            Map<Long, Future<Integer>> results = new LinkedHashMap<>();
+            for (Long locationId : locationIds) {
+                results.put(locationId, executor.submit(() -> inventoryLedgerDao.rebuildLocation(locationId)));
+            }
+
+            for (Map.Entry<Long, Future<Integer>> entry : results.entrySet()) {
+                try {
+                    corrected += entry.getValue().get();
+                } catch (ExecutionException e) {
+                    errors.add("Location " + entry.getKey() + ": " + e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    executor.shutdownNow();
+                    errors.add("Location " + entry.getKey() + ": interrupted");
+                }
+            }
+        }
+
+        if (corrected > 0) {
+            log.warn("Ledger rebuild corrected {} inventory rows", corrected);
+        }
+        return new LedgerRebuildResult(locationIds.size(), corrected, errors);
+    }
+}
@@ -0,0 +1,96 @@
+package org.service.impl;
+
+import lombok.AllArgsConstructor;
+import org.cache.ExpiringLruCache;
+import org.dao.InventoryReportDao;
+import org.model.ValuationGrouping;
+import org.model.ValuationRow;
+import org.service.InventoryReportService;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Stock valuation computed by one grouped aggregate in the database. Only the groups reach the application,
+ * never individual stock rows.
+ */
+@AllArgsConstructor
+@Service
+public class InventoryReportServiceImpl implements InventoryReportService {
+
+    private final InventoryReportDao inventoryReportDao;
+    private final ExpiringLruCache<ValuationGrouping, List<ValuationRow>> valuationCache;
+
+    /**
+     * Pass the current valuation to {@code consumer} as the database produces it, bypassing the cache.
+     */
+    @Override
+    public void streamValuation(ValuationGrouping grouping, Consumer<ValuationRow> consumer) {
+        inventoryReportDao.valuation(grouping, consumer);
+    }
+
+    /**
+     * The valuation as a list, served from the cache while it is fresh.
+     */
+    @Override
+    public List<ValuationRow> valuation(ValuationGrouping grouping) {
+        return valuationCache.get(grouping, key -> {
+            List<ValuationRow> rows = new ArrayList<>();
+            inventoryReportDao.valuation(key, rows::add);
+            return List.copyOf(rows);
+        });
+    }
+
+    /**
+     * Write the current valuation to a CSV file straight from the database cursor.
+     *
+     * @return the number of groups written
+     */
+    @Override
+    public long exportValuation(ValuationGrouping grouping, Path target) throws IOException {
+        long[] rows = { 0 };
+
+        try (BufferedWriter writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            writer.write("location_id,location_name,category_id,category_name,quantity,value\r\n");
+            inventoryReportDao.valuation(grouping, row -> {
+                try {
+                    writer.write(csv(row.locationId()) + ',' + csv(row.locationName()) + ',' +
+                            csv(row.categoryId()) + ',' + csv(row.categoryName()) + ',' +
+                            row.quantity() + ',' + row.value().toPlainString() + "\r\n");
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        return rows[0];
+    }
+
+    @Override
+    public void invalidate() {
+        valuationCache.invalidateAll();
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
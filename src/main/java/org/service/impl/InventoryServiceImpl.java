@@ -1,14 +1,17 @@
 package org.service.impl;
 
 import lombok.AllArgsConstructor;
+import org.alert.LowStockEvaluator;
 import org.dao.InventoryDao;
 import org.dao.LocationDao;
 import org.dao.ProductDao;
+import org.dao.StockSummaryDao;
 import org.dto.InventoryRequest;
 import org.exception.DataNotFoundException;
 import org.exception.InvalidValidatorException;
 import org.model.Inventory;
 import org.model.Location;
+import org.model.MovementReason;
 import org.model.Product;
 import org.service.InventoryService;
 import org.springframework.stereotype.Service;
@@ -17,7 +20,10 @@ import org.springframework.validation.ObjectError;
 import org.validators.InventoryRequestValidator;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @AllArgsConstructor
@@ -28,6 +34,8 @@ public class InventoryServiceImpl implements InventoryService {
     private final ProductDao productDao;
     private final LocationDao locationDao;
     private final InventoryRequestValidator inventoryRequestValidator;
+    private final LowStockEvaluator lowStockEvaluator;
+    private final StockSummaryDao stockSummaryDao;
 
     private void validationDTO(InventoryRequest request) {
         BeanPropertyBindingResult errors = new BeanPropertyBindingResult(request, "inventoryRequest");
@@ -54,11 +62,15 @@ public class InventoryServiceImpl implements InventoryService {
             throw new DataNotFoundException("Location not found with a id: " + request.locationId());
         }
 
-        return inventoryDao.save(Inventory.builder()
-                .product(productDao.findById(request.locationId()))
+        Inventory saved = inventoryDao.save(Inventory.builder()
+                .product(productDao.findSummaryById(request.productId()).toProduct())
                 .location(locationDao.findById(request.locationId()))
                 .quantity(request.quantity())
                 .build());
+        if (saved != null) {
+            lowStockEvaluator.evaluate(request.productId(), request.locationId(), saved.getQuantity());
+        }
+        return saved;
     }
 
     @Override
@@ -66,6 +78,21 @@ public class InventoryServiceImpl implements InventoryService {
         return inventoryDao.findById(id);
     }
 
+    @Override
+    public Inventory findByProductAndLocation(Long productId, Long locationId) {
+        return inventoryDao.findByProductAndLocation(productId, locationId);
+    }
+
+    @Override
+    public List<Inventory> findAllByProduct(Long productId) {
+        return inventoryDao.findAllByProduct(productId);
+    }
+
+    @Override
+    public List<Inventory> findAllByLocation(Long locationId) {
+        return inventoryDao.findAllByLocation(locationId);
+    }
+
     @Override
     public Inventory update(Long id, InventoryRequest request) {
         validationDTO(request);
@@ -75,7 +102,7 @@ public class InventoryServiceImpl implements InventoryService {
             throw new DataNotFoundException("Product not found with a id: " + request.productId());
         }
 
-        Product product = productDao.findById(request.locationId());
+        Product product = productDao.findSummaryById(request.productId()).toProduct();
 
         Boolean isLocationExists = locationDao.isLocationExist(request.locationId(), null);
         if (!isLocationExists) {
@@ -95,7 +122,61 @@ public class InventoryServiceImpl implements InventoryService {
         inventory.setQuantity(request.quantity());
         inventory.setUpdatedAt(LocalDateTime.now());
 
-        return inventoryDao.update(id, inventory);
+        Inventory updated = inventoryDao.update(id, inventory);
+        if (updated != null) {
+            lowStockEvaluator.evaluate(request.productId(), request.locationId(), updated.getQuantity());
+        }
+        return updated;
+    }
+
+    /**
+     * Change the stock of a product at a location by {@code delta} in one round trip.
+     *
+     * @return the quantity after the change
+     * @throws org.exception.InsufficientStockException if a decrement would take the stock below zero
+     */
+    @Override
+    public int adjust(Long productId, Long locationId, int delta) {
+        return adjust(productId, locationId, delta, MovementReason.ADJUSTMENT, null);
+    }
+
+    /**
+     * Same as {@link #adjust(Long, Long, int)}, recording why the stock changed in the inventory ledger.
+     *
+     * @param reference optional id of the sale, order or document behind the change
+     */
+    @Override
+    public int adjust(Long productId, Long locationId, int delta, MovementReason reason, String reference) {
+        if (productId == null || locationId == null) {
+            throw new IllegalArgumentException("Product id and location id must not be null");
+        }
+        if (reason == null) {
+            throw new IllegalArgumentException("Movement reason must not be null");
+        }
+        int quantity = inventoryDao.adjust(productId, locationId, delta, reason, reference);
+        lowStockEvaluator.evaluate(productId, locationId, quantity);
+        return quantity;
+    }
+
+    /**
+     * Units of a product in stock across all locations, read from the maintained summary rather than summed.
+     */
+    @Override
+    public long totalOnHand(Long productId) {
+        return stockSummaryDao.totalOnHand(productId);
+    }
+
+    /**
+     * Same as {@link #totalOnHand(Long)} for many products; products without stock map to 0.
+     */
+    @Override
+    public Map<Long, Long> totalsOnHand(Collection<Long> productIds) {
+        Map<Long, Long> stored = stockSummaryDao.totalsOnHand(productIds);
+        Map<Long, Long> totals = new LinkedHashMap<>();
+        for (Long productId : productIds) {
+            totals.put(productId, stored.getOrDefault(productId, 0L));
+        }
+        return totals;
     }
 
     @Override
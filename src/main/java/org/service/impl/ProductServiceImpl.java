@@ -1,21 +1,27 @@
 package org.service.impl;
 
 import lombok.AllArgsConstructor;
+import org.cache.ExpiringLruCache;
 import org.dao.CategoryDao;
 import org.dao.ProductDao;
+import org.dto.ImportChunkResult;
 import org.dto.ProductRequest;
+import org.dto.RepriceRequest;
+import org.exception.DataAlreadyExistsException;
 import org.exception.DataNotFoundException;
 import org.exception.InvalidValidatorException;
 import org.model.Category;
 import org.model.Product;
+import org.model.ProductSearchHit;
 import org.service.ProductService;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.ObjectError;
 import org.validators.ProductRequestValidator;
+import org.validators.RepriceRequestValidator;
 
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @AllArgsConstructor
@@ -25,11 +31,22 @@ public class ProductServiceImpl implements ProductService {
     private final ProductDao productDao;
     private final CategoryDao categoryDao;
     private final ProductRequestValidator productRequestValidator;
+    private final RepriceRequestValidator repriceRequestValidator;
+    private final ExpiringLruCache<Long, Product> productCache;
 
     private void validationDTO(ProductRequest request) {
         BeanPropertyBindingResult errors = new BeanPropertyBindingResult(request, "productRequest");
         productRequestValidator.validate(request, errors);
+        throwIfInvalid(errors);
+    }
+
+    private void validationDTO(RepriceRequest request) {
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(request, "repriceRequest");
+        repriceRequestValidator.validate(request, errors);
+        throwIfInvalid(errors);
+    }
 
+    private void throwIfInvalid(BeanPropertyBindingResult errors) {
         if (errors.hasErrors()) {
             List<String> errorMessages = errors.getAllErrors().stream()
                     .map(ObjectError::getDefaultMessage)
@@ -38,13 +55,21 @@ public class ProductServiceImpl implements ProductService {
         }
     }
 
+    private Collection<Category> resolveCategories(Collection<String> names) {
+        List<Category> categories = categoryDao.findByNames(names);
+        if (categories.size() < new HashSet<>(names).size()) {
+            Set<String> found = categories.stream().map(Category::getName).collect(Collectors.toSet());
+            String missing = names.stream().filter(name -> !found.contains(name)).findFirst().orElse("");
+            throw new DataNotFoundException("Category not found with name: " + missing);
+        }
+        return categories;
+    }
+
     @Override
     public Product save(ProductRequest request) {
         validationDTO(request);
 
-        Collection<Category> categories = request.categories().stream()
-                .map(categoryDao::findByName)
-                .toList();
+        Collection<Category> categories = resolveCategories(request.categories());
         Product product = Product.builder()
                 .name(request.name())
                 .description(request.description())
@@ -54,9 +79,88 @@ public class ProductServiceImpl implements ProductService {
         return productDao.save(product);
     }
 
+    /**
+     * Import products in chunks of {@code chunkSize}, each written with one batched insert in its own transaction.<p>
+     * Rows that fail validation are reported and skipped; a chunk that fails to write is reported
+     * without stopping the chunks after it.
+     */
+    @Override
+    public List<ImportChunkResult> importAll(Collection<ProductRequest> requests, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be greater than 0");
+        }
+
+        List<ProductRequest> rows = new ArrayList<>(requests);
+        Set<String> names = new HashSet<>();
+        List<ImportChunkResult> results = new ArrayList<>();
+
+        for (int start = 0, chunk = 0; start < rows.size(); start += chunkSize, chunk++) {
+            int end = Math.min(start + chunkSize, rows.size());
+            List<Product> products = new ArrayList<>();
+            List<String> errors = new ArrayList<>();
+
+            for (int row = start; row < end; row++) {
+                ProductRequest request = rows.get(row);
+                try {
+                    validationDTO(request);
+
+                    Collection<Category> categories = resolveCategories(request.categories());
+
+                    if (!names.add(request.name())) {
+                        throw new DataAlreadyExistsException("Duplicate product name: " + request.name());
+                    }
+
+                    products.add(Product.builder()
+                            .name(request.name())
+                            .description(request.description())
+                            .price(request.price())
+                            .categories(categories)
+                            .build());
+                } catch (InvalidValidatorException e) {
+                    errors.add("Row " + row + ": " + String.join(", ", e.getAllMessage()));
+                } catch (DataNotFoundException | DataAlreadyExistsException e) {
+                    errors.add("Row " + row + ": " + e.getMessage());
+                }
+            }
+
+            int inserted = 0;
+            int rejected = errors.size();
+            if (!products.isEmpty()) {
+                try {
+                    inserted = productDao.saveAll(products).size();
+                } catch (DataAccessException e) {
+                    rejected += products.size();
+                    errors.add("Chunk " + chunk + " failed: " + e.getMostSpecificCause().getMessage());
+                }
+            }
+
+            results.add(new ImportChunkResult(chunk, inserted, 0, rejected, errors));
+        }
+
+        return results;
+    }
+
     @Override
     public Product findById(Long id) {
-        return productDao.findById(id);
+        return productCache.get(id, productDao::findById);
+    }
+
+    @Override
+    public List<ProductSearchHit> search(String query, int limit) {
+        return search(query, null, null, limit);
+    }
+
+    @Override
+    public List<ProductSearchHit> search(String query, Float afterRank, Long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be greater than 0");
+        }
+
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+
+        return productDao.search(query.trim(), afterRank, afterId, limit);
     }
 
     @Override
@@ -76,7 +180,49 @@ public class ProductServiceImpl implements ProductService {
         product.setPrice(request.price());
         product.setCategories(categories);
 
-        return productDao.update(id, product);
+        Product updated = productDao.update(id, product);
+        productCache.invalidate(id);
+        return updated;
+    }
+
+    /**
+     * Update a product only if it is still at {@code expectedVersion}, in a single round trip
+     * unless the categories change.
+     *
+     * @throws org.exception.VersionConflictException if someone else updated the product first
+     */
+    @Override
+    public Product update(Long id, Long expectedVersion, ProductRequest request) {
+        validationDTO(request);
+
+        Product patch = Product.builder()
+                .name(request.name())
+                .description(request.description())
+                .price(request.price())
+                .categories(resolveCategories(request.categories()))
+                .build();
+
+        Product updated = productDao.updateIfVersion(id, expectedVersion, patch);
+        productCache.invalidate(id);
+        return updated;
+    }
+
+    /**
+     * Apply a price adjustment to every product in a category in one statement, recording the old and
+     * new prices in the price history.
+     *
+     * @return the number of products whose price changed
+     */
+    @Override
+    public int repriceCategory(RepriceRequest request) {
+        validationDTO(request);
+
+        Category category = categoryDao.findByName(request.category());
+        int changed = productDao.repriceByCategory(category.getId(), request.adjustment(), request.value(), request.reason());
+        if (changed > 0) {
+            productCache.invalidateAll();
+        }
+        return changed;
     }
 
     @Override
@@ -85,6 +231,9 @@ public class ProductServiceImpl implements ProductService {
         if (!result) {
             throw new DataNotFoundException("Product not found with id: " + id);
         }
-        return productDao.deleteById(id);
+
+        int rows = productDao.deleteById(id);
+        productCache.invalidate(id);
+        return rows;
     }
 }
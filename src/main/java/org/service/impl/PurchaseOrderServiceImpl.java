@@ -0,0 +1,105 @@
+package org.service.impl;
+
+import lombok.AllArgsConstructor;
+import org.alert.LowStockEvaluator;
+import org.dao.LocationDao;
+import org.dao.PurchaseOrderDao;
+import org.dao.SupplierDao;
+import org.dto.PurchaseOrderRequest;
+import org.exception.DataNotFoundException;
+import org.exception.InvalidValidatorException;
+import org.model.PurchaseOrder;
+import org.model.PurchaseOrderStatus;
+import org.model.StockLevel;
+import org.service.PurchaseOrderService;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.ObjectError;
+import org.validators.PurchaseOrderRequestValidator;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@AllArgsConstructor
+@Service
+public class PurchaseOrderServiceImpl implements PurchaseOrderService {
+
+    private final PurchaseOrderDao purchaseOrderDao;
+    private final SupplierDao supplierDao;
+    private final LocationDao locationDao;
+    private final LowStockEvaluator lowStockEvaluator;
+    private final PurchaseOrderRequestValidator purchaseOrderRequestValidator;
+
+    private void validationDTO(PurchaseOrderRequest request) {
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(request, "purchaseOrderRequest");
+        purchaseOrderRequestValidator.validate(request, errors);
+
+        if (errors.hasErrors()) {
+            List<String> errorMessages = errors.getAllErrors().stream()
+                    .map(ObjectError::getDefaultMessage)
+                    .collect(Collectors.toList());
+            throw new InvalidValidatorException(errorMessages);
+        }
+    }
+
+    @Override
+    public PurchaseOrder create(PurchaseOrderRequest request) {
+        validationDTO(request);
+
+        if (!supplierDao.isSupplierExists(request.supplierId())) {
+            throw new DataNotFoundException("Supplier not found with a id: " + request.supplierId());
+        }
+
+        if (!locationDao.isLocationExist(request.locationId(), null)) {
+            throw new DataNotFoundException("Location not found with a id: " + request.locationId());
+        }
+
+        return purchaseOrderDao.save(request.supplierId(), request.locationId(), request.lines());
+    }
+
+    @Override
+    public PurchaseOrder findById(Long id) {
+        return purchaseOrderDao.findById(id);
+    }
+
+    @Override
+    public List<PurchaseOrder> findOpenByLocation(Long locationId) {
+        return purchaseOrderDao.findOpenByLocation(locationId);
+    }
+
+    /**
+     * Add every line of an open order to the stock of its location and close the order.
+     * The ledger movements carry the reference {@code PO-<id>}.
+     *
+     * @return the new stock level of each received product
+     */
+    @Override
+    public List<StockLevel> receive(Long id) {
+        PurchaseOrder order = purchaseOrderDao.findById(id);
+        if (order.status() != PurchaseOrderStatus.OPEN) {
+            throw new IllegalStateException("Purchase order " + id + " is " + order.status() + " and cannot be received");
+        }
+
+        List<StockLevel> levels = purchaseOrderDao.receive(id, "PO-" + id);
+        if (levels.isEmpty()) {
+            throw new IllegalStateException("Purchase order " + id + " is no longer open");
+        }
+
+        lowStockEvaluator.evaluate(levels);
+        return levels;
+    }
+
+    @Override
+    public int cancel(Long id) {
+        PurchaseOrder order = purchaseOrderDao.findById(id);
+        if (order.status() != PurchaseOrderStatus.OPEN) {
+            throw new IllegalStateException("Purchase order " + id + " is " + order.status() + " and cannot be cancelled");
+        }
+
+        int rows = purchaseOrderDao.cancel(id);
+        if (rows == 0) {
+            throw new IllegalStateException("Purchase order " + id + " is no longer open");
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,87 @@
+package org.service.impl;
+
+import lombok.AllArgsConstructor;
+import org.dao.ReorderDao;
+import org.dto.ReorderRunResult;
+import org.model.ReorderSuggestion;
+import org.model.ReorderTotals;
+import org.service.ReorderService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+@AllArgsConstructor
+@Service
+public class ReorderServiceImpl implements ReorderService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReorderServiceImpl.class);
+
+    private final ReorderDao reorderDao;
+    private final int parallelism;
+
+    /**
+     * Recompute the reorder suggestions of every location, one transaction per location and up to
+     * {@code parallelism} locations at a time. A failing location is reported and does not stop the others.
+     */
+    @Scheduled(
+            initialDelayString = "${inventory.reorder.interval-ms:3600000}",
+            fixedDelayString = "${inventory.reorder.interval-ms:3600000}"
+    )
+    @Override
+    public ReorderRunResult run() {
+        List<Long> locationIds = reorderDao.findLocationIds();
+        if (locationIds.isEmpty()) {
+            return new ReorderRunResult(0, 0, 0, BigDecimal.ZERO, List.of());
+        }
+
+        long suggestions = 0;
+        long unsourced = 0;
+        BigDecimal estimatedCost = BigDecimal.ZERO;
+        List<String> errors = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, locationIds.size()))) {
+            Map<Long, Future<ReorderTotals>> results = new LinkedHashMap<>();
+            for (Long locationId : locationIds) {
+                results.put(locationId, executor.submit(() -> reorderDao.suggestForLocation(locationId)));
+            }
+
+            for (Map.Entry<Long, Future<ReorderTotals>> entry : results.entrySet()) {
+                try {
+                    ReorderTotals totals = entry.getValue().get();
+                    suggestions += totals.suggestions();
+                    unsourced += totals.unsourced();
+                    estimatedCost = estimatedCost.add(totals.estimatedCost());
+                } catch (ExecutionException e) {
+                    errors.add("Location " + entry.getKey() + ": " + e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    executor.shutdownNow();
+                    errors.add("Location " + entry.getKey() + ": interrupted");
+                }
+            }
+        }
+
+        log.info("Reorder run over {} locations wrote {} suggestions ({} without a supplier), estimated cost {}",
+                locationIds.size(), suggestions, unsourced, estimatedCost);
+        if (!errors.isEmpty()) {
+            log.warn("Reorder run failed for {} locations: {}", errors.size(), errors);
+        }
+        return new ReorderRunResult(locationIds.size(), suggestions, unsourced, estimatedCost, errors);
+    }
+
+    @Override
+    public void streamSuggestions(Long locationId, Consumer<ReorderSuggestion> consumer) {
+        reorderDao.streamSuggestions(locationId, consumer);
+    }
+}
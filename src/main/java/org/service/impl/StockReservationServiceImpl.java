@@ -0,0 +1,206 @@
+package org.service.impl;
+
+import org.dao.StockReservationDao;
+import org.dto.ReservationRequest;
+import org.exception.DataNotFoundException;
+import org.exception.InsufficientStockException;
+import org.exception.InvalidValidatorException;
+import org.exception.ReservationExpiredException;
+import org.model.MovementReason;
+import org.model.StockKey;
+import org.model.StockReservation;
+import org.service.InventoryService;
+import org.service.StockReservationService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.ObjectError;
+import org.validators.ReservationRequestValidator;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Holds stock for carts and pending orders without changing {@code inventory.quantity}.<p>
+ * Every hold is kept in {@code stock_reservations} and mirrored in memory, together with a running total per
+ * (product, location), so available-to-sell is the on-hand quantity minus one counter rather than a sum over
+ * reservation rows. The in-memory table is the source of truth while the application runs and is reloaded from
+ * the database on startup; it assumes a single application instance.
+ */
+@Service
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private final StockReservationDao stockReservationDao;
+    private final InventoryService inventoryService;
+    private final ReservationRequestValidator reservationRequestValidator;
+    private final Duration defaultTtl;
+    private final Clock clock;
+
+    private final Map<Long, StockReservation> reservations = new ConcurrentHashMap<>();
+    private final Map<StockKey, Integer> reservedByKey = new ConcurrentHashMap<>();
+
+    public StockReservationServiceImpl(StockReservationDao stockReservationDao, InventoryService inventoryService,
+                                       ReservationRequestValidator reservationRequestValidator, Duration defaultTtl) {
+        this(stockReservationDao, inventoryService, reservationRequestValidator, defaultTtl, Clock.systemDefaultZone());
+    }
+
+    StockReservationServiceImpl(StockReservationDao stockReservationDao, InventoryService inventoryService,
+                                ReservationRequestValidator reservationRequestValidator, Duration defaultTtl, Clock clock) {
+        this.stockReservationDao = stockReservationDao;
+        this.inventoryService = inventoryService;
+        this.reservationRequestValidator = reservationRequestValidator;
+        this.defaultTtl = defaultTtl;
+        this.clock = clock;
+    }
+
+    private void validationDTO(ReservationRequest request) {
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(request, "reservationRequest");
+        reservationRequestValidator.validate(request, errors);
+
+        if (errors.hasErrors()) {
+            List<String> errorMessages = errors.getAllErrors().stream()
+                    .map(ObjectError::getDefaultMessage)
+                    .collect(Collectors.toList());
+            throw new InvalidValidatorException(errorMessages);
+        }
+    }
+
+    /**
+     * Load the holds that have not expired yet into memory.
+     */
+    public void reload() {
+        reservations.clear();
+        reservedByKey.clear();
+        for (StockReservation reservation : stockReservationDao.findAllActive(LocalDateTime.now(clock))) {
+            reservations.put(reservation.id(), reservation);
+            reservedByKey.merge(reservation.key(), reservation.quantity(), Integer::sum);
+        }
+    }
+
+    /**
+     * Hold stock for a cart or order.
+     *
+     * @throws InsufficientStockException if less than the requested quantity is available to sell
+     */
+    @Override
+    public StockReservation reserve(ReservationRequest request) {
+        validationDTO(request);
+
+        StockKey key = new StockKey(request.productId(), request.locationId());
+        int onHand = inventoryService.findByProductAndLocation(request.productId(), request.locationId()).getQuantity();
+        int quantity = request.quantity();
+
+        reservedByKey.compute(key, (k, reserved) -> {
+            int current = reserved != null ? reserved : 0;
+            if (onHand - current < quantity) {
+                throw new InsufficientStockException("Insufficient stock for product id: " + k.productId() + " at location id: " + k.locationId()
+                        + ", available " + (onHand - current) + ", requested " + quantity, onHand - current, quantity);
+            }
+            return current + quantity;
+        });
+
+        Duration ttl = request.ttlSeconds() != null ? Duration.ofSeconds(request.ttlSeconds()) : defaultTtl;
+        try {
+            StockReservation reservation = stockReservationDao.save(new StockReservation(null, request.productId(), request.locationId(),
+                    quantity, request.reference(), LocalDateTime.now(clock).plus(ttl)));
+            reservations.put(reservation.id(), reservation);
+            return reservation;
+        } catch (RuntimeException e) {
+            unreserve(key, quantity);
+            throw e;
+        }
+    }
+
+    /**
+     * Turn a hold into a sale: take its quantity off {@code inventory} and drop the hold, in one transaction.
+     * A hold that has expired but not been swept yet can no longer be committed; it is dropped, and the
+     * transaction still commits so its row does not outlive the in-memory entry.
+     *
+     * @return the on-hand quantity after the sale
+     * @throws ReservationExpiredException if the hold has expired
+     */
+    @Transactional(noRollbackFor = ReservationExpiredException.class)
+    @Override
+    public int commit(Long reservationId) {
+        StockReservation reservation = claim(reservationId);
+        if (!reservation.expiresAt().isAfter(LocalDateTime.now(clock))) {
+            unreserve(reservation.key(), reservation.quantity());
+            stockReservationDao.deleteById(reservationId);
+            throw new ReservationExpiredException("Stock reservation expired with a id: " + reservationId);
+        }
+
+        try {
+            int quantity = inventoryService.adjust(reservation.productId(), reservation.locationId(), -reservation.quantity(),
+                    MovementReason.SALE, reservation.reference());
+            stockReservationDao.deleteById(reservationId);
+            unreserve(reservation.key(), reservation.quantity());
+            return quantity;
+        } catch (RuntimeException e) {
+            reservations.put(reservationId, reservation);
+            throw e;
+        }
+    }
+
+    @Override
+    public void release(Long reservationId) {
+        StockReservation reservation = claim(reservationId);
+        unreserve(reservation.key(), reservation.quantity());
+        stockReservationDao.deleteById(reservationId);
+    }
+
+    @Override
+    public int reserved(Long productId, Long locationId) {
+        return reservedByKey.getOrDefault(new StockKey(productId, locationId), 0);
+    }
+
+    @Override
+    public int available(Long productId, Long locationId) {
+        int onHand = inventoryService.findByProductAndLocation(productId, locationId).getQuantity();
+        return onHand - reserved(productId, locationId);
+    }
+
+    /**
+     * Drop every hold past its expiry.
+     *
+     * @return the number of expired holds
+     */
+    @Scheduled(
+            initialDelayString = "${inventory.reservation.sweep-interval-ms:30000}",
+            fixedDelayString = "${inventory.reservation.sweep-interval-ms:30000}"
+    )
+    @Override
+    public int sweep() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<StockReservation> expired = new ArrayList<>();
+        for (StockReservation reservation : reservations.values()) {
+            if (!reservation.expiresAt().isAfter(now) && reservations.remove(reservation.id(), reservation)) {
+                unreserve(reservation.key(), reservation.quantity());
+                expired.add(reservation);
+            }
+        }
+
+        if (!expired.isEmpty()) {
+            stockReservationDao.deleteExpired(now);
+        }
+        return expired.size();
+    }
+
+    private StockReservation claim(Long reservationId) {
+        StockReservation reservation = reservations.remove(reservationId);
+        if (reservation == null) {
+            throw new DataNotFoundException("Stock reservation not found with a id: " + reservationId);
+        }
+        return reservation;
+    }
+
+    private void unreserve(StockKey key, int quantity) {
+        reservedByKey.computeIfPresent(key, (k, reserved) -> reserved - quantity > 0 ? reserved - quantity : null);
+    }
+}
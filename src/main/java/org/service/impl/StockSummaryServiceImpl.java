@@ -0,0 +1,44 @@
+package org.service.impl;
+
+import lombok.AllArgsConstructor;
+import org.dao.StockSummaryDao;
+import org.service.StockSummaryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Background consistency check of {@code product_stock_summary}. The table is walked in product id ranges, one
+ * short transaction each, so writers are only held up for the range being repaired.
+ */
+@AllArgsConstructor
+@Service
+public class StockSummaryServiceImpl implements StockSummaryService {
+
+    private static final Logger log = LoggerFactory.getLogger(StockSummaryServiceImpl.class);
+
+    private final StockSummaryDao stockSummaryDao;
+    private final int rangeSize;
+
+    /**
+     * @return the number of product totals that had drifted and were corrected
+     */
+    @Scheduled(
+            initialDelayString = "${inventory.summary.check-interval-ms:3600000}",
+            fixedDelayString = "${inventory.summary.check-interval-ms:3600000}"
+    )
+    @Override
+    public int verifyAndRepair() {
+        long maxProductId = stockSummaryDao.maxProductId();
+        int corrected = 0;
+        for (long after = 0; after < maxProductId; after += rangeSize) {
+            corrected += stockSummaryDao.repair(after, Math.min(after + rangeSize, maxProductId));
+        }
+
+        if (corrected > 0) {
+            log.warn("Corrected {} drifted product stock totals", corrected);
+        }
+        return corrected;
+    }
+}
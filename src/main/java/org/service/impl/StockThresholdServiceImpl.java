@@ -0,0 +1,75 @@
+package org.service.impl;
+
+import lombok.AllArgsConstructor;
+import org.alert.LowStockEvaluator;
+import org.dao.LocationDao;
+import org.dao.ProductDao;
+import org.dao.StockThresholdDao;
+import org.dto.StockThresholdRequest;
+import org.exception.DataNotFoundException;
+import org.exception.InvalidValidatorException;
+import org.model.StockThreshold;
+import org.service.StockThresholdService;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.ObjectError;
+import org.validators.StockThresholdRequestValidator;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@AllArgsConstructor
+@Service
+public class StockThresholdServiceImpl implements StockThresholdService {
+
+    private final StockThresholdDao stockThresholdDao;
+    private final ProductDao productDao;
+    private final LocationDao locationDao;
+    private final LowStockEvaluator lowStockEvaluator;
+    private final StockThresholdRequestValidator stockThresholdRequestValidator;
+
+    private void validationDTO(StockThresholdRequest request) {
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(request, "stockThresholdRequest");
+        stockThresholdRequestValidator.validate(request, errors);
+
+        if (errors.hasErrors()) {
+            List<String> errorMessages = errors.getAllErrors().stream()
+                    .map(ObjectError::getDefaultMessage)
+                    .collect(Collectors.toList());
+            throw new InvalidValidatorException(errorMessages);
+        }
+    }
+
+    @Override
+    public StockThreshold save(StockThresholdRequest request) {
+        validationDTO(request);
+
+        if (!productDao.isProductExists(request.productId())) {
+            throw new DataNotFoundException("Product not found with a id: " + request.productId());
+        }
+
+        if (!locationDao.isLocationExist(request.locationId(), null)) {
+            throw new DataNotFoundException("Location not found with a id: " + request.locationId());
+        }
+
+        StockThreshold threshold = stockThresholdDao.save(new StockThreshold(
+                request.productId(), request.locationId(), request.lowLevel(), request.restockLevel()));
+        lowStockEvaluator.put(threshold);
+        return threshold;
+    }
+
+    @Override
+    public List<StockThreshold> findAll() {
+        return stockThresholdDao.findAll();
+    }
+
+    @Override
+    public int delete(Long productId, Long locationId) {
+        int rows = stockThresholdDao.delete(productId, locationId);
+        if (rows == 0) {
+            throw new DataNotFoundException("Stock threshold not found with product id: " + productId + " and location id: " + locationId);
+        }
+        lowStockEvaluator.remove(productId, locationId);
+        return rows;
+    }
+}
@@ -0,0 +1,76 @@
+package org.service.impl;
+
+import lombok.AllArgsConstructor;
+import org.dao.ProductDao;
+import org.dao.SupplierDao;
+import org.dao.SupplierProductDao;
+import org.dto.SupplierProductRequest;
+import org.exception.DataNotFoundException;
+import org.exception.InvalidValidatorException;
+import org.model.SupplierProduct;
+import org.service.SupplierProductService;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.ObjectError;
+import org.validators.SupplierProductRequestValidator;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@AllArgsConstructor
+@Service
+public class SupplierProductServiceImpl implements SupplierProductService {
+
+    private final SupplierProductDao supplierProductDao;
+    private final SupplierDao supplierDao;
+    private final ProductDao productDao;
+    private final SupplierProductRequestValidator supplierProductRequestValidator;
+
+    private void validationDTO(SupplierProductRequest request) {
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(request, "supplierProductRequest");
+        supplierProductRequestValidator.validate(request, errors);
+
+        if (errors.hasErrors()) {
+            List<String> errorMessages = errors.getAllErrors().stream()
+                    .map(ObjectError::getDefaultMessage)
+                    .collect(Collectors.toList());
+            throw new InvalidValidatorException(errorMessages);
+        }
+    }
+
+    @Override
+    public SupplierProduct save(SupplierProductRequest request) {
+        validationDTO(request);
+
+        if (!supplierDao.isSupplierExists(request.supplierId())) {
+            throw new DataNotFoundException("Supplier not found with a id: " + request.supplierId());
+        }
+
+        if (!productDao.isProductExists(request.productId())) {
+            throw new DataNotFoundException("Product not found with a id: " + request.productId());
+        }
+
+        int minOrderQuantity = request.minOrderQuantity() == null ? 1 : request.minOrderQuantity();
+        return supplierProductDao.save(new SupplierProduct(
+                request.supplierId(), request.productId(), request.unitCost(), request.leadTimeDays(), minOrderQuantity));
+    }
+
+    @Override
+    public List<SupplierProduct> findBySupplierId(Long supplierId) {
+        return supplierProductDao.findBySupplierId(supplierId);
+    }
+
+    @Override
+    public SupplierProduct findCheapest(Long productId) {
+        return supplierProductDao.findCheapest(productId);
+    }
+
+    @Override
+    public int delete(Long supplierId, Long productId) {
+        int rows = supplierProductDao.delete(supplierId, productId);
+        if (rows == 0) {
+            throw new DataNotFoundException("Supplier product not found with supplier id: " + supplierId + " and product id: " + productId);
+        }
+        return rows;
+    }
+}
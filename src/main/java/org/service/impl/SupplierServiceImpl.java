@@ -1,28 +1,37 @@
 package org.service.impl;
 
 import lombok.AllArgsConstructor;
+import org.cache.ExpiringLruCache;
 import org.dao.SupplierDao;
+import org.dto.ImportChunkResult;
 import org.dto.SupplierRequest;
 import org.exception.DataNotFoundException;
 import org.exception.InvalidValidatorException;
 import org.model.Supplier;
+import org.model.SupplierSearchHit;
 import org.service.SupplierService;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.ObjectError;
 import org.validators.SupplierRequestValidator;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @AllArgsConstructor
 @Service
 public class SupplierServiceImpl implements SupplierService {
 
+    private static final String COUNT_KEY = "suppliers";
+    private static final long EXACT_COUNT_THRESHOLD = 10_000;
+
     private final SupplierDao supplierDao;
     private final SupplierRequestValidator supplierRequestValidator;
+    private final ExpiringLruCache<String, Long> countCache;
 
     private void validationDTO(SupplierRequest request) {
         BeanPropertyBindingResult errors = new BeanPropertyBindingResult(request, "supplierRequest");
@@ -41,6 +50,40 @@ public class SupplierServiceImpl implements SupplierService {
         return supplierDao.findAll(limit, offset);
     }
 
+    @Override
+    public List<Supplier> findPage(String afterName, Long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be greater than 0");
+        }
+
+        return supplierDao.findPage(afterName, afterId, limit);
+    }
+
+    @Override
+    public List<SupplierSearchHit> search(String query, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be greater than 0");
+        }
+
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+
+        return supplierDao.search(query.trim(), limit);
+    }
+
+    /**
+     * Total number of suppliers, cached for a short while. Small tables are counted exactly; once the planner
+     * estimates at least {@value #EXACT_COUNT_THRESHOLD} rows its estimate is used instead of a full count.
+     */
+    @Override
+    public long count() {
+        return countCache.get(COUNT_KEY, key -> {
+            long estimate = supplierDao.estimateCount();
+            return estimate >= EXACT_COUNT_THRESHOLD ? estimate : supplierDao.count();
+        });
+    }
+
     @Override
     public Supplier findById(Long id) {
         return supplierDao.findById(id);
@@ -50,13 +93,120 @@ public class SupplierServiceImpl implements SupplierService {
     public Supplier save(SupplierRequest request) {
         validationDTO(request);
 
-        return supplierDao.save(Supplier.builder()
+        Supplier saved = supplierDao.save(Supplier.builder()
                 .name(request.name())
                 .contactName(request.contactName())
                 .phoneNumber(request.phoneNumber())
                 .email(request.email())
                 .address(request.address())
         .build());
+        countCache.invalidate(COUNT_KEY);
+        return saved;
+    }
+
+    /**
+     * Upsert suppliers by name in chunks of {@code chunkSize}, one statement per chunk.<p>
+     * Every row is validated in parallel before the first write. Rows that fail validation, repeat a name, phone
+     * or email seen earlier in the file, or collide with another supplier's phone or email are reported as rejected.
+     * A chunk that fails to write is reported without stopping the chunks after it.
+     */
+    @Override
+    public List<ImportChunkResult> importAll(Collection<SupplierRequest> requests, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be greater than 0");
+        }
+
+        List<SupplierRequest> rows = new ArrayList<>(requests);
+        List<String> rowErrors = IntStream.range(0, rows.size()).parallel()
+                .mapToObj(row -> validationError(rows.get(row)))
+                .toList();
+
+        Set<String> names = new HashSet<>();
+        Set<String> phones = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        List<ImportChunkResult> results = new ArrayList<>();
+        boolean changed = false;
+
+        for (int start = 0, chunk = 0; start < rows.size(); start += chunkSize, chunk++) {
+            int end = Math.min(start + chunkSize, rows.size());
+            Map<String, Integer> rowByName = new LinkedHashMap<>();
+            List<Supplier> suppliers = new ArrayList<>();
+            List<String> errors = new ArrayList<>();
+
+            for (int row = start; row < end; row++) {
+                SupplierRequest request = rows.get(row);
+                String error = rowErrors.get(row);
+                if (error == null && names.contains(request.name())) {
+                    error = "Duplicate supplier name: " + request.name();
+                } else if (error == null && phones.contains(request.phoneNumber())) {
+                    error = "Duplicate phone number: " + request.phoneNumber();
+                } else if (error == null && emails.contains(request.email())) {
+                    error = "Duplicate email: " + request.email();
+                }
+
+                if (error != null) {
+                    errors.add("Row " + row + ": " + error);
+                    continue;
+                }
+
+                names.add(request.name());
+                phones.add(request.phoneNumber());
+                emails.add(request.email());
+
+                rowByName.put(request.name(), row);
+                suppliers.add(Supplier.builder()
+                        .name(request.name())
+                        .contactName(request.contactName())
+                        .phoneNumber(request.phoneNumber())
+                        .email(request.email())
+                        .address(request.address())
+                        .build());
+            }
+
+            int inserted = 0;
+            int updated = 0;
+            int rejected = errors.size();
+            if (!suppliers.isEmpty()) {
+                try {
+                    Map<String, Boolean> written = supplierDao.upsertAll(suppliers);
+                    for (Map.Entry<String, Integer> entry : rowByName.entrySet()) {
+                        Boolean wasInserted = written.get(entry.getKey());
+                        if (wasInserted == null) {
+                            rejected++;
+                            errors.add("Row " + entry.getValue() + ": Phone number or email already belongs to another supplier");
+                        } else if (wasInserted) {
+                            inserted++;
+                        } else {
+                            updated++;
+                        }
+                    }
+                } catch (DataAccessException e) {
+                    rejected += suppliers.size();
+                    errors.add("Chunk " + chunk + " failed: " + e.getMostSpecificCause().getMessage());
+                }
+            }
+
+            changed |= inserted > 0;
+            results.add(new ImportChunkResult(chunk, inserted, updated, rejected, errors));
+        }
+
+        if (changed) {
+            countCache.invalidate(COUNT_KEY);
+        }
+        return results;
+    }
+
+    private String validationError(SupplierRequest request) {
+        if (request == null) {
+            return "Empty row";
+        }
+
+        try {
+            validationDTO(request);
+            return null;
+        } catch (InvalidValidatorException e) {
+            return String.join(", ", e.getAllMessage());
+        }
     }
 
     @Override
@@ -86,6 +236,8 @@ public class SupplierServiceImpl implements SupplierService {
            throw new DataNotFoundException("Supplier not found with a id: " + id);
        }
 
-       return supplierDao.deleteById(id);
+       int rows = supplierDao.deleteById(id);
+       countCache.invalidate(COUNT_KEY);
+       return rows;
     }
 }
@@ -5,6 +5,7 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
 import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
 
 import javax.sql.DataSource;
 
@@ -24,10 +25,23 @@ public class SchemaInitializer implements InitializingBean {
         populator.addScript(new ClassPathResource("sql/category.sql"));
         populator.addScript(new ClassPathResource("sql/product.sql"));
         populator.addScript(new ClassPathResource("sql/product_category.sql"));
+        populator.addScript(new ClassPathResource("sql/product_price_history.sql"));
         populator.addScript(new ClassPathResource("sql/location.sql"));
         populator.addScript(new ClassPathResource("sql/inventory.sql"));
+        populator.addScript(new ClassPathResource("sql/inventory_movement.sql"));
+        populator.addScript(new ClassPathResource("sql/stock_threshold.sql"));
+        populator.addScript(new ClassPathResource("sql/stock_reservation.sql"));
         populator.addScript(new ClassPathResource("sql/insert_value.sql"));
         populator.addScript(new ClassPathResource("sql/supplier.sql"));
+        populator.addScript(new ClassPathResource("sql/supplier_product.sql"));
+        populator.addScript(new ClassPathResource("sql/purchase_order.sql"));
+        populator.addScript(new ClassPathResource("sql/reorder_suggestion.sql"));
         DatabasePopulatorUtils.execute(populator, dataSource);
+
+        // PL/pgSQL bodies contain semicolons, so these scripts are sent to the server as a whole
+        ResourceDatabasePopulator functions = new ResourceDatabasePopulator();
+        functions.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        functions.addScript(new ClassPathResource("sql/product_stock_summary.sql"));
+        DatabasePopulatorUtils.execute(functions, dataSource);
     }
 }
@@ -23,13 +23,15 @@ public class ProductRequestValidator implements Validator {
 
         ProductRequest request = (ProductRequest) target;
 
-        if (request.price().compareTo(BigDecimal.ZERO) < 0) {
+        if (request.price() != null && request.price().compareTo(BigDecimal.ZERO) < 0) {
             errors.rejectValue("price", "price.zero", "Price must not be negative.");
         }
 
-        for (var category : request.categories()) {
-            if (category == null || category.isBlank()) {
-                errors.rejectValue("category", "category.empty", "Category list must not contain null or blank values.");
+        if (request.categories() != null) {
+            for (var category : request.categories()) {
+                if (category == null || category.isBlank()) {
+                    errors.rejectValue("categories", "category.empty", "Category list must not contain null or blank values.");
+                }
             }
         }
     }
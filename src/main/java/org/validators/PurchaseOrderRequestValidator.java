@@ -0,0 +1,32 @@
+package org.validators;
+
+import org.dto.PurchaseOrderRequest;
+import org.springframework.validation.Errors;
+import org.springframework.validation.ValidationUtils;
+import org.springframework.validation.Validator;
+
+public class PurchaseOrderRequestValidator implements Validator {
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return PurchaseOrderRequest.class.equals(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        ValidationUtils.rejectIfEmpty(errors, "supplierId", "supplierId.empty", "Supplier id must not be empty");
+        ValidationUtils.rejectIfEmpty(errors, "locationId", "locationId.empty", "Location id must not be empty");
+
+        PurchaseOrderRequest request = (PurchaseOrderRequest) target;
+        if (request.lines() == null || request.lines().isEmpty()) {
+            errors.rejectValue("lines", "lines.empty", "Purchase order must have at least one line");
+            return;
+        }
+
+        boolean invalidQuantity = request.lines().entrySet().stream()
+                .anyMatch(line -> line.getKey() == null || line.getValue() == null || line.getValue() <= 0);
+        if (invalidQuantity) {
+            errors.rejectValue("lines", "lines.quantity", "Every line needs a product id and a quantity greater than 0");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.validators;
+
+import org.dto.RepriceRequest;
+import org.model.PriceAdjustment;
+import org.springframework.validation.Errors;
+import org.springframework.validation.ValidationUtils;
+import org.springframework.validation.Validator;
+
+import java.math.BigDecimal;
+
+public class RepriceRequestValidator implements Validator {
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return RepriceRequest.class.equals(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        ValidationUtils.rejectIfEmpty(errors, "category", "category.empty", "Category must not be empty");
+        ValidationUtils.rejectIfEmpty(errors, "adjustment", "adjustment.empty", "Adjustment must not be empty");
+        ValidationUtils.rejectIfEmpty(errors, "value", "value.empty", "Value must not be empty");
+
+        RepriceRequest request = (RepriceRequest) target;
+        if (request.value() == null) {
+            return;
+        }
+
+        if (request.adjustment() == PriceAdjustment.PERCENTAGE && request.value().compareTo(BigDecimal.valueOf(-100)) < 0) {
+            errors.rejectValue("value", "value.percentage", "Percentage must not be less than -100");
+        }
+
+        if (request.adjustment() == PriceAdjustment.ROUND_TO && request.value().compareTo(BigDecimal.ZERO) <= 0) {
+            errors.rejectValue("value", "value.step", "Rounding step must be greater than 0");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.validators;
+
+import org.dto.ReservationRequest;
+import org.springframework.validation.Errors;
+import org.springframework.validation.ValidationUtils;
+import org.springframework.validation.Validator;
+
+public class ReservationRequestValidator implements Validator {
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return ReservationRequest.class.equals(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        ValidationUtils.rejectIfEmpty(errors, "productId", "productId.empty", "Product id must not be empty");
+        ValidationUtils.rejectIfEmpty(errors, "locationId", "locationId.empty", "Location id must not be empty");
+        ValidationUtils.rejectIfEmpty(errors, "quantity", "quantity.empty", "Quantity must not be empty");
+
+        ReservationRequest request = (ReservationRequest) target;
+        if (request.quantity() != null && request.quantity() <= 0) {
+            errors.rejectValue("quantity", "quantity.positive", "Quantity must be greater than 0");
+        }
+
+        if (request.ttlSeconds() != null && request.ttlSeconds() <= 0) {
+            errors.rejectValue("ttlSeconds", "ttlSeconds.positive", "Reservation ttl must be greater than 0");
+        }
+
+        if (request.reference() != null && request.reference().length() > 255) {
+            errors.rejectValue("reference", "reference.length", "Reference must not be longer than 255 characters");
+        }
+    }
+}
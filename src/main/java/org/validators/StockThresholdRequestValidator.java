@@ -0,0 +1,35 @@
+package org.validators;
+
+import org.dto.StockThresholdRequest;
+import org.springframework.validation.Errors;
+import org.springframework.validation.ValidationUtils;
+import org.springframework.validation.Validator;
+
+public class StockThresholdRequestValidator implements Validator {
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return StockThresholdRequest.class.equals(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        ValidationUtils.rejectIfEmpty(errors, "productId", "productId.empty", "Product id must not be empty");
+        ValidationUtils.rejectIfEmpty(errors, "locationId", "locationId.empty", "Location id must not be empty");
+        ValidationUtils.rejectIfEmpty(errors, "lowLevel", "lowLevel.empty", "Low level must not be empty");
+        ValidationUtils.rejectIfEmpty(errors, "restockLevel", "restockLevel.empty", "Restock level must not be empty");
+
+        StockThresholdRequest request = (StockThresholdRequest) target;
+        if (request.lowLevel() == null || request.restockLevel() == null) {
+            return;
+        }
+
+        if (request.lowLevel() < 0) {
+            errors.rejectValue("lowLevel", "lowLevel.negative", "Low level must not be negative");
+        }
+
+        if (request.restockLevel() <= request.lowLevel()) {
+            errors.rejectValue("restockLevel", "restockLevel.range", "Restock level must be greater than low level");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.validators;
+
+import org.dto.SupplierProductRequest;
+import org.springframework.validation.Errors;
+import org.springframework.validation.ValidationUtils;
+import org.springframework.validation.Validator;
+
+import java.math.BigDecimal;
+
+public class SupplierProductRequestValidator implements Validator {
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return SupplierProductRequest.class.equals(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        ValidationUtils.rejectIfEmpty(errors, "supplierId", "supplierId.empty", "Supplier id must not be empty");
+        ValidationUtils.rejectIfEmpty(errors, "productId", "productId.empty", "Product id must not be empty");
+        ValidationUtils.rejectIfEmpty(errors, "unitCost", "unitCost.empty", "Unit cost must not be empty");
+        ValidationUtils.rejectIfEmpty(errors, "leadTimeDays", "leadTimeDays.empty", "Lead time must not be empty");
+
+        SupplierProductRequest request = (SupplierProductRequest) target;
+        if (request.unitCost() != null && request.unitCost().compareTo(BigDecimal.ZERO) < 0) {
+            errors.rejectValue("unitCost", "unitCost.negative", "Unit cost must not be negative");
+        }
+
+        if (request.leadTimeDays() != null && request.leadTimeDays() < 0) {
+            errors.rejectValue("leadTimeDays", "leadTimeDays.negative", "Lead time must not be negative");
+        }
+
+        if (request.minOrderQuantity() != null && request.minOrderQuantity() <= 0) {
+            errors.rejectValue("minOrderQuantity", "minOrderQuantity.positive", "Minimum order quantity must be greater than 0");
+        }
+    }
+}
@@ -22,15 +22,15 @@ public class SupplierRequestValidator implements Validator {
 
         SupplierRequest request = (SupplierRequest) target;
 
-        if (request.name().length() < 2) {
+        if (request.name() != null && request.name().length() < 2) {
             errors.rejectValue("name", "name.length", "Name cannot be less than 2 character");
         }
 
-        if (!request.phoneNumber().matches("^[+]?[(]?[-1-9]{1,4}[)]?[-\\s./0-9]*$")) {
+        if (request.phoneNumber() != null && !request.phoneNumber().matches("^[+]?[(]?[-1-9]{1,4}[)]?[-\\s./0-9]*$")) {
             errors.rejectValue("phoneNumber", "phoneNumber.invalid", "Enter a valid phone number using only digits, spaces, dashes, parentheses, or an optional '+' at the start. Maximum 16 characters");
         }
 
-        if (!request.email().matches("^[\\w-.]+@([\\w-]+\\.)+[\\w-]{2,4}$")) {
+        if (request.email() != null && !request.email().matches("^[\\w-.]+@([\\w-]+\\.)+[\\w-]{2,4}$")) {
             errors.rejectValue("email", "email.invalid", "Invalid email format");
         }
     }
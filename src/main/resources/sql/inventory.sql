@@ -1,7 +1,13 @@
 CREATE TABLE IF NOT EXISTS inventory (
     id SERIAL PRIMARY KEY,
-    product_id INT UNIQUE NOT NULL REFERENCES products(id) ON DELETE CASCADE,
-    location_id INT UNIQUE NOT NULL REFERENCES locations(id) ON DELETE CASCADE,
+    product_id INT NOT NULL REFERENCES products(id) ON DELETE CASCADE,
+    location_id INT NOT NULL REFERENCES locations(id) ON DELETE CASCADE,
     quantity INT NOT NULL,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-);
\ No newline at end of file
+);
+
+ALTER TABLE inventory DROP CONSTRAINT IF EXISTS inventory_product_id_key;
+ALTER TABLE inventory DROP CONSTRAINT IF EXISTS inventory_location_id_key;
+
+CREATE UNIQUE INDEX IF NOT EXISTS inventory_product_location_idx ON inventory(product_id, location_id);
+CREATE INDEX IF NOT EXISTS inventory_location_product_idx ON inventory(location_id, product_id);
\ No newline at end of file
@@ -0,0 +1,28 @@
+CREATE TABLE IF NOT EXISTS inventory_movements(
+    id BIGSERIAL PRIMARY KEY,
+    product_id INT NOT NULL REFERENCES products(id) ON DELETE CASCADE,
+    location_id INT NOT NULL REFERENCES locations(id) ON DELETE CASCADE,
+    delta INT NOT NULL,
+    reason VARCHAR(32) NOT NULL,
+    reference VARCHAR(255),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS inventory_movements_product_location_idx ON inventory_movements(product_id, location_id, id);
+CREATE INDEX IF NOT EXISTS inventory_movements_location_idx ON inventory_movements(location_id);
+
+CREATE TABLE IF NOT EXISTS inventory_snapshots(
+    product_id INT NOT NULL REFERENCES products(id) ON DELETE CASCADE,
+    location_id INT NOT NULL REFERENCES locations(id) ON DELETE CASCADE,
+    quantity INT NOT NULL,
+    last_movement_id BIGINT NOT NULL,
+    taken_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (product_id, location_id)
+);
+
+INSERT INTO inventory_movements(product_id, location_id, delta, reason)
+SELECT i.product_id, i.location_id, i.quantity, 'OPENING_BALANCE'
+FROM inventory i
+WHERE NOT EXISTS (
+    SELECT 1 FROM inventory_movements m WHERE m.product_id = i.product_id AND m.location_id = i.location_id
+);
\ No newline at end of file
@@ -1,4 +1,6 @@
 CREATE TABLE IF NOT EXISTS products_categories(
     product_id INT REFERENCES products(id) ON DELETE CASCADE,
     category_id INT REFERENCES categories(id) ON DELETE CASCADE
-);
\ No newline at end of file
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS products_categories_product_category_idx ON products_categories(product_id, category_id);
\ No newline at end of file
@@ -0,0 +1,47 @@
+CREATE TABLE IF NOT EXISTS product_stock_summary(
+    product_id INT PRIMARY KEY REFERENCES products(id) ON DELETE CASCADE,
+    quantity BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE OR REPLACE FUNCTION product_stock_summary_apply() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO product_stock_summary(product_id, quantity)
+        SELECT product_id, SUM(quantity) FROM new_rows GROUP BY product_id ORDER BY product_id
+        ON CONFLICT (product_id) DO UPDATE SET quantity = product_stock_summary.quantity + EXCLUDED.quantity, updated_at = CURRENT_TIMESTAMP;
+    ELSIF TG_OP = 'UPDATE' THEN
+        INSERT INTO product_stock_summary(product_id, quantity)
+        SELECT product_id, SUM(delta) FROM (
+            SELECT product_id, quantity AS delta FROM new_rows
+            UNION ALL
+            SELECT product_id, -quantity FROM old_rows
+        ) d GROUP BY product_id HAVING SUM(delta) <> 0 ORDER BY product_id
+        ON CONFLICT (product_id) DO UPDATE SET quantity = product_stock_summary.quantity + EXCLUDED.quantity, updated_at = CURRENT_TIMESTAMP;
+    ELSE
+        UPDATE product_stock_summary s SET quantity = s.quantity - d.quantity, updated_at = CURRENT_TIMESTAMP
+        FROM (SELECT product_id, SUM(quantity) AS quantity FROM old_rows GROUP BY product_id) d
+        WHERE s.product_id = d.product_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS inventory_stock_summary_insert ON inventory;
+CREATE TRIGGER inventory_stock_summary_insert AFTER INSERT ON inventory
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION product_stock_summary_apply();
+
+DROP TRIGGER IF EXISTS inventory_stock_summary_update ON inventory;
+CREATE TRIGGER inventory_stock_summary_update AFTER UPDATE ON inventory
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION product_stock_summary_apply();
+
+DROP TRIGGER IF EXISTS inventory_stock_summary_delete ON inventory;
+CREATE TRIGGER inventory_stock_summary_delete AFTER DELETE ON inventory
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION product_stock_summary_apply();
+
+INSERT INTO product_stock_summary(product_id, quantity)
+SELECT product_id, SUM(quantity) FROM inventory GROUP BY product_id
+ON CONFLICT (product_id) DO NOTHING;
\ No newline at end of file
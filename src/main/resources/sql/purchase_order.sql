@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS purchase_orders(
+    id BIGSERIAL PRIMARY KEY,
+    supplier_id INT NOT NULL REFERENCES suppliers(id),
+    location_id INT NOT NULL REFERENCES locations(id),
+    status VARCHAR(16) NOT NULL DEFAULT 'OPEN',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    received_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS purchase_order_lines(
+    purchase_order_id BIGINT NOT NULL REFERENCES purchase_orders(id) ON DELETE CASCADE,
+    product_id INT NOT NULL REFERENCES products(id),
+    quantity INT NOT NULL CHECK (quantity > 0),
+    unit_cost DECIMAL(10, 2) NOT NULL,
+    PRIMARY KEY (purchase_order_id, product_id)
+);
+
+CREATE INDEX IF NOT EXISTS purchase_orders_open_location_idx ON purchase_orders(location_id, id) WHERE status = 'OPEN';
+CREATE INDEX IF NOT EXISTS purchase_orders_supplier_idx ON purchase_orders(supplier_id);
\ No newline at end of file
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS reorder_suggestions(
+    location_id INT NOT NULL REFERENCES locations(id) ON DELETE CASCADE,
+    product_id INT NOT NULL REFERENCES products(id) ON DELETE CASCADE,
+    supplier_id INT REFERENCES suppliers(id) ON DELETE SET NULL,
+    on_hand INT NOT NULL,
+    on_order INT NOT NULL,
+    reorder_point INT NOT NULL,
+    quantity INT NOT NULL CHECK (quantity > 0),
+    unit_cost DECIMAL(10, 2),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (location_id, product_id)
+);
\ No newline at end of file
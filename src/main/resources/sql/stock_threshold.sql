@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS stock_thresholds(
+    product_id INT NOT NULL REFERENCES products(id) ON DELETE CASCADE,
+    location_id INT NOT NULL REFERENCES locations(id) ON DELETE CASCADE,
+    low_level INT NOT NULL CHECK (low_level >= 0),
+    restock_level INT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (product_id, location_id),
+    CHECK (restock_level > low_level)
+);
\ No newline at end of file
@@ -7,4 +7,12 @@ CREATE TABLE IF NOT EXISTS suppliers(
     address VARCHAR(255) NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-);
\ No newline at end of file
+);
+
+CREATE INDEX IF NOT EXISTS suppliers_name_id_idx ON suppliers(name, id);
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS suppliers_name_trgm_idx ON suppliers USING GIN (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS suppliers_contact_name_trgm_idx ON suppliers USING GIN (contact_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS suppliers_email_trgm_idx ON suppliers USING GIN (email gin_trgm_ops);
\ No newline at end of file
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS supplier_products(
+    supplier_id INT NOT NULL REFERENCES suppliers(id) ON DELETE CASCADE,
+    product_id INT NOT NULL REFERENCES products(id) ON DELETE CASCADE,
+    unit_cost DECIMAL(10, 2) NOT NULL CHECK (unit_cost >= 0),
+    lead_time_days INT NOT NULL CHECK (lead_time_days >= 0),
+    min_order_quantity INT NOT NULL DEFAULT 1 CHECK (min_order_quantity > 0),
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (supplier_id, product_id)
+);
+
+CREATE INDEX IF NOT EXISTS supplier_products_product_cost_idx ON supplier_products(product_id, unit_cost, supplier_id);
\ No newline at end of file
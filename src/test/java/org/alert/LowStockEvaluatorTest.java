@@ -0,0 +1,95 @@
+package org.alert;
+
+import org.dao.StockThresholdDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.model.StockKey;
+import org.model.StockLevel;
+import org.model.StockThreshold;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LowStockEvaluatorTest {
+
+    private StockThresholdDao stockThresholdDao;
+    private LowStockEvaluator evaluator;
+    private List<LowStockAlert> alerts;
+
+    @BeforeEach
+    void setUp() {
+        stockThresholdDao = mock(StockThresholdDao.class);
+        when(stockThresholdDao.findAll()).thenReturn(List.of(new StockThreshold(1L, 1L, 5, 20)));
+        when(stockThresholdDao.findBelowLowLevel()).thenReturn(List.of());
+
+        alerts = new ArrayList<>();
+        evaluator = new LowStockEvaluator(stockThresholdDao, Runnable::run);
+        evaluator.addListener(new LowStockListener() {
+            @Override
+            public void onLowStock(LowStockAlert alert) {
+                alerts.add(alert);
+            }
+
+            @Override
+            public void onRestocked(LowStockAlert alert) {
+                alerts.add(alert);
+            }
+        });
+        evaluator.reload();
+    }
+
+    @Test
+    void evaluate_ShouldAlertOnce_WhenStockStaysBetweenLimits() {
+        evaluator.evaluate(1L, 1L, 5);
+        evaluator.evaluate(1L, 1L, 7);
+        evaluator.evaluate(1L, 1L, 4);
+        evaluator.evaluate(1L, 1L, 19);
+
+        assertEquals(1, alerts.size());
+        assertFalse(alerts.getFirst().restocked());
+        assertEquals(Set.of(new StockKey(1L, 1L)), evaluator.activeAlerts());
+    }
+
+    @Test
+    void evaluate_ShouldClearAlert_WhenRestocked() {
+        evaluator.evaluate(1L, 1L, 3);
+        evaluator.evaluate(1L, 1L, 20);
+        evaluator.evaluate(1L, 1L, 25);
+
+        assertEquals(2, alerts.size());
+        assertTrue(alerts.get(1).restocked());
+        assertTrue(evaluator.activeAlerts().isEmpty());
+    }
+
+    @Test
+    void evaluate_ShouldIgnoreRowsWithoutThreshold() {
+        evaluator.evaluate(List.of(new StockLevel(2L, 1L, 0), new StockLevel(1L, 2L, 0)));
+
+        assertTrue(alerts.isEmpty());
+    }
+
+    @Test
+    void reload_ShouldNotRealertRowsAlreadyLow() {
+        when(stockThresholdDao.findBelowLowLevel()).thenReturn(List.of(new StockKey(1L, 1L)));
+        evaluator.reload();
+
+        evaluator.evaluate(1L, 1L, 2);
+
+        assertTrue(alerts.isEmpty());
+    }
+
+    @Test
+    void publish_ShouldKeepNotifying_WhenListenerFails() {
+        evaluator.addListener(alert -> { throw new IllegalStateException("boom"); });
+        LowStockListener last = mock(LowStockListener.class);
+        evaluator.addListener(last);
+
+        evaluator.evaluate(1L, 1L, 0);
+
+        verify(last).onLowStock(any());
+    }
+}
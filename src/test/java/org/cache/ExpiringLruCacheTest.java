@@ -0,0 +1,80 @@
+package org.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiringLruCacheTest {
+
+    private AtomicLong now;
+    private ExpiringLruCache<Long, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        cache = new ExpiringLruCache<>(2, Duration.ofSeconds(10), now::get);
+    }
+
+    @Test
+    void testGet_shouldLoadOnceAndCountHit() {
+        assertEquals("1", cache.get(1L, String::valueOf));
+        assertEquals("1", cache.get(1L, id -> fail("loader should not run")));
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.size());
+    }
+
+    @Test
+    void testGet_shouldEvictLeastRecentlyUsed() {
+        cache.get(1L, String::valueOf);
+        cache.get(2L, String::valueOf);
+        cache.get(1L, String::valueOf);
+        cache.get(3L, String::valueOf);
+
+        assertNotNull(cache.getIfPresent(1L));
+        assertNull(cache.getIfPresent(2L));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    void testGet_shouldExpireAfterTtl() {
+        cache.get(1L, String::valueOf);
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertNull(cache.getIfPresent(1L));
+        assertEquals(1, cache.stats().expirations());
+    }
+
+    @Test
+    void testGet_shouldNotCacheNull() {
+        assertNull(cache.get(1L, id -> null));
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    void testGet_shouldNotStoreValueLoadedDuringInvalidation() {
+        String value = cache.get(1L, id -> {
+            cache.invalidate(id);
+            return "stale";
+        });
+
+        assertEquals("stale", value);
+        assertNull(cache.getIfPresent(1L));
+    }
+
+    @Test
+    void testInvalidateAll_shouldClearEntries() {
+        cache.get(1L, String::valueOf);
+        cache.get(2L, String::valueOf);
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.stats().size());
+    }
+}
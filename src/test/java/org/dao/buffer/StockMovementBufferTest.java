@@ -0,0 +1,130 @@
+package org.dao.buffer;
+
+import org.dao.InventoryDao;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.model.StockLevel;
+import org.model.StockMovement;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class StockMovementBufferTest {
+
+    private InventoryDao inventoryDao;
+    private StockMovementBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        inventoryDao = mock(InventoryDao.class);
+        buffer = new StockMovementBuffer(inventoryDao, Duration.ofHours(1), 1_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reset(inventoryDao);
+        buffer.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldCoalesceDeltasPerProductAndLocation() {
+        when(inventoryDao.adjustAll(anyCollection())).thenReturn(List.of(new StockLevel(1L, 1L, 7)));
+
+        buffer.add(1L, 1L, 5);
+        buffer.add(1L, 1L, -3);
+        buffer.add(1L, 1L, 5);
+
+        List<StockLevel> levels = buffer.flush();
+
+        ArgumentCaptor<Collection<StockMovement>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(inventoryDao).adjustAll(captor.capture());
+        assertEquals(List.of(new StockMovement(1L, 1L, 7)), List.copyOf(captor.getValue()));
+        assertEquals(1, levels.size());
+
+        StockBufferStats stats = buffer.stats();
+        assertEquals(0, stats.pendingMovements());
+        assertEquals(1, stats.flushes());
+        assertEquals(1, stats.flushedMovements());
+    }
+
+    @Test
+    void flush_ShouldSkipWrite_WhenDeltasCancelOut() {
+        buffer.add(1L, 1L, 4);
+        buffer.add(1L, 1L, -4);
+
+        assertTrue(buffer.flush().isEmpty());
+        verifyNoInteractions(inventoryDao);
+    }
+
+    @Test
+    void flush_ShouldKeepDeltas_WhenWriteFails() {
+        when(inventoryDao.adjustAll(anyCollection()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(List.of(new StockLevel(1L, 1L, 2)));
+
+        buffer.add(1L, 1L, 2);
+
+        assertThrows(QueryTimeoutException.class, () -> buffer.flush());
+        assertEquals(1, buffer.stats().failedFlushes());
+        assertEquals(1, buffer.stats().pendingMovements());
+
+        buffer.flush();
+        verify(inventoryDao, times(2)).adjustAll(List.of(new StockMovement(1L, 1L, 2)));
+    }
+
+    @Test
+    void flush_ShouldKeepRemainder_WhenDeltaOverflowsInt() {
+        when(inventoryDao.adjustAll(anyCollection())).thenReturn(List.of(new StockLevel(1L, 1L, 1)));
+
+        buffer.add(1L, 1L, Integer.MAX_VALUE);
+        buffer.add(1L, 1L, Integer.MAX_VALUE);
+
+        buffer.flush();
+        assertEquals(1, buffer.stats().pendingMovements());
+        buffer.flush();
+
+        verify(inventoryDao, times(2)).adjustAll(List.of(new StockMovement(1L, 1L, Integer.MAX_VALUE)));
+        assertTrue(buffer.flush().isEmpty());
+    }
+
+    @Test
+    void flush_ShouldCountUnmatchedMovements() {
+        when(inventoryDao.adjustAll(anyCollection())).thenReturn(List.of());
+
+        buffer.add(9L, 9L, 1);
+        buffer.flush();
+
+        assertEquals(1, buffer.stats().unmatchedMovements());
+    }
+
+    @Test
+    void add_ShouldFlush_WhenThresholdReached() {
+        buffer.close();
+        buffer = new StockMovementBuffer(inventoryDao, Duration.ofHours(1), 2);
+        when(inventoryDao.adjustAll(anyCollection())).thenReturn(List.of(new StockLevel(1L, 1L, 2)));
+
+        buffer.add(1L, 1L, 1);
+        buffer.add(1L, 1L, 1);
+
+        verify(inventoryDao, timeout(1_000)).adjustAll(anyCollection());
+    }
+
+    @Test
+    void close_ShouldFlushPendingDeltas() {
+        when(inventoryDao.adjustAll(anyCollection())).thenReturn(List.of(new StockLevel(1L, 1L, 3)));
+
+        buffer.add(1L, 1L, 3);
+        buffer.close();
+
+        verify(inventoryDao).adjustAll(List.of(new StockMovement(1L, 1L, 3)));
+    }
+}
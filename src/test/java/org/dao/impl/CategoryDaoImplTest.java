@@ -10,18 +10,19 @@ import org.model.Category;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 
+import java.sql.ResultSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class CategoryDaoImplTest {
 
@@ -157,4 +158,42 @@ class CategoryDaoImplTest {
 
         assertThrows(DataNotFoundException.class, () -> categoryDao.deleteById(id));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFindByNames_shouldQueryOnlyUnknownNames() {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            ResultSet rs = Mockito.mock(ResultSet.class);
+            when(rs.getString("name")).thenReturn("Books");
+            when(rs.getLong("id")).thenReturn(1L);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        List<Category> first = categoryDao.findByNames(List.of("Books", "Games"));
+        List<Category> second = categoryDao.findByNames(List.of("Books"));
+
+        assertEquals(List.of(Category.builder().id(1L).name("Books").build()), first);
+        assertEquals(first, second);
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @Test
+    void testFindByNames_shouldReloadAfterDelete() {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            ResultSet rs = Mockito.mock(ResultSet.class);
+            when(rs.getString("name")).thenReturn("Books");
+            when(rs.getLong("id")).thenReturn(1L);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+        when(jdbcTemplate.update(anyString(), eq(1L))).thenReturn(1);
+
+        categoryDao.findByNames(List.of("Books"));
+        categoryDao.deleteById(1L);
+        categoryDao.findByNames(List.of("Books"));
+
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+}
@@ -0,0 +1,69 @@
+package org.dao.impl;
+
+import org.dao.CycleCountDao;
+import org.dto.CycleCountResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.model.CountDiscrepancy;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CycleCountDaoImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private CycleCountDao cycleCountDao;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        cycleCountDao = new CycleCountDaoImpl(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcile_ShouldCopyCountsAndReportDiscrepancies() throws Exception {
+        Connection conn = mock(Connection.class);
+        when(conn.createStatement()).thenReturn(mock(Statement.class));
+
+        CopyManager copyManager = mock(CopyManager.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(conn.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(copyManager.copyIn(startsWith("COPY cycle_count"), any(Reader.class))).thenReturn(3L);
+
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getLong("product_id")).thenReturn(1L, 9L);
+        when(rs.getObject("expected", Integer.class)).thenReturn(10, (Integer) null);
+        when(rs.getInt("counted")).thenReturn(7);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(ps.executeQuery()).thenReturn(rs);
+        when(conn.prepareStatement(contains("inventory_movements"))).thenReturn(ps);
+
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(conn));
+
+        CycleCountResult result = cycleCountDao.reconcile(4L, new StringReader("product_id,quantity\n1,7\n9,2\n"), "count-1");
+
+        assertEquals(3L, result.lines());
+        assertEquals(List.of(new CountDiscrepancy(1L, 10, 7)), result.corrected());
+        assertEquals(List.of(9L), result.unknownProducts());
+        verify(ps).setString(3, "STOCK_COUNT");
+        verify(ps).setString(4, "count-1");
+    }
+}
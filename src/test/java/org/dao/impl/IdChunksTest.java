@@ -0,0 +1,25 @@
+package org.dao.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdChunksTest {
+
+    @Test
+    void of_ShouldDropDuplicatesAndNullsBeforeChunking() {
+        List<Long[]> chunks = IdChunks.of(Arrays.asList(1L, 2L, null, 2L, 3L, 4L, 5L), 2);
+
+        assertEquals(3, chunks.size());
+        assertArrayEquals(new Long[]{1L, 2L}, chunks.get(0));
+        assertArrayEquals(new Long[]{5L}, chunks.get(2));
+    }
+
+    @Test
+    void of_ShouldReturnNoChunks_WhenIdsEmpty() {
+        assertTrue(IdChunks.of(List.of()).isEmpty());
+    }
+}
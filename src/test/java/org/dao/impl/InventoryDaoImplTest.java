@@ -2,32 +2,39 @@ package org.dao.impl;
 
 import org.dao.InventoryDao;
 import org.exception.DataNotFoundException;
+import org.exception.InsufficientStockException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.model.Category;
 import org.model.Inventory;
 import org.model.Location;
+import org.model.MovementReason;
 import org.model.Product;
+import org.model.StockLevel;
+import org.model.StockMovement;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 
 import java.math.BigDecimal;
+import java.sql.ResultSet;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class InventoryDaoImplTest {
 
@@ -125,6 +132,34 @@ class InventoryDaoImplTest {
         assertThrows(DataNotFoundException.class, () -> inventoryDao.findById(id));
     }
 
+    @Test
+    void testFindByProductAndLocation_success() {
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), eq(1L), eq(2L))).thenReturn(inventory);
+
+        assertEquals(inventory, inventoryDao.findByProductAndLocation(1L, 2L));
+    }
+
+    @Test
+    void testFindByProductAndLocation_notFound() {
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), eq(1L), eq(2L))).thenThrow(new EmptyResultDataAccessException(1));
+
+        assertThrows(DataNotFoundException.class, () -> inventoryDao.findByProductAndLocation(1L, 2L));
+    }
+
+    @Test
+    void testFindAllByProduct_success() {
+        when(jdbcTemplate.query(contains("WHERE i.product_id = ?"), any(RowMapper.class), eq(1L))).thenReturn(List.of(inventory));
+
+        assertEquals(List.of(inventory), inventoryDao.findAllByProduct(1L));
+    }
+
+    @Test
+    void testFindAllByLocation_success() {
+        when(jdbcTemplate.query(contains("WHERE i.location_id = ?"), any(RowMapper.class), eq(1L))).thenReturn(List.of(inventory));
+
+        assertEquals(List.of(inventory), inventoryDao.findAllByLocation(1L));
+    }
+
     @Test
     void testUpdate_success() {
         Long id = 1L;
@@ -138,6 +173,17 @@ class InventoryDaoImplTest {
         assertEquals(inventory, updateInventory);
     }
 
+    @Test
+    void testUpdate_ShouldRecordQuantityDifferenceInLedger() {
+        when(jdbcTemplate.query(contains("FOR UPDATE"), any(RowMapper.class), eq(1L)))
+                .thenReturn(List.of(new StockLevel(1L, 1L, 100)));
+        when(jdbcTemplate.update(startsWith("UPDATE inventory"), any(Object[].class))).thenReturn(1);
+
+        inventoryDao.update(1L, inventory);
+
+        verify(jdbcTemplate).update(contains("INSERT INTO inventory_movements"), eq(1L), eq(1L), eq(23), eq("ADJUSTMENT"), isNull());
+    }
+
     @Test
     void testUpdate_failed() {
         Long id = 1L;
@@ -146,10 +192,38 @@ class InventoryDaoImplTest {
         assertThrows(NullPointerException.class, () -> inventoryDao.update(id, inventory1));
     }
 
+    @Test
+    void testAdjust_success() {
+        when(jdbcTemplate.queryForList(contains("INSERT INTO inventory_movements"), eq(Integer.class),
+                eq(-2), eq(1L), eq(1L), eq(-2), eq(-2), eq("SALE"), eq("receipt-42")))
+                .thenReturn(List.of(8));
+
+        assertEquals(8, inventoryDao.adjust(1L, 1L, -2, MovementReason.SALE, "receipt-42"));
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Integer.class), any(Object[].class));
+    }
+
+    @Test
+    void testAdjust_insufficientStock() {
+        when(jdbcTemplate.queryForList(startsWith("WITH changed"), eq(Integer.class), any(Object[].class))).thenReturn(List.of());
+        when(jdbcTemplate.queryForList(startsWith("SELECT quantity"), eq(Integer.class), eq(1L), eq(1L))).thenReturn(List.of(1));
+
+        InsufficientStockException ex = assertThrows(InsufficientStockException.class, () -> inventoryDao.adjust(1L, 1L, -2));
+
+        assertEquals(1, ex.getAvailable());
+        assertEquals(2, ex.getRequested());
+    }
+
+    @Test
+    void testAdjust_notFound() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), any(Object[].class))).thenReturn(List.of());
+
+        assertThrows(DataNotFoundException.class, () -> inventoryDao.adjust(1L, 1L, 5));
+    }
+
     @Test
     void testDeleteById_success() {
 
-        when(jdbcTemplate.update(anyString(), eq(1L)))
+        when(jdbcTemplate.update(anyString(), eq(1L), eq("CLOSING_BALANCE")))
                 .thenReturn(1);
 
         int rows = inventoryDao.deleteById(1L);
@@ -159,9 +233,54 @@ class InventoryDaoImplTest {
 
     @Test
     void testDeleteById_failed() {
-        when(jdbcTemplate.update(anyString(), eq(0L)))
+        when(jdbcTemplate.update(anyString(), eq(0L), eq("CLOSING_BALANCE")))
                 .thenReturn(0);
 
         assertThrows(DataNotFoundException.class, () -> inventoryDao.deleteById(0L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void adjustAll_ShouldCoalesceMovementsIntoOneUpdate() {
+        when(jdbcTemplate.query(contains("unnest"), any(RowMapper.class), any(), any(), any(), eq("ADJUSTMENT")))
+                .thenAnswer(invocation -> {
+                    Long[] productIds = invocation.getArgument(2);
+                    Integer[] amounts = invocation.getArgument(4);
+                    assertArrayEquals(new Long[]{1L, 2L}, productIds);
+                    assertArrayEquals(new Integer[]{3, -1}, amounts);
+                    return List.of(new StockLevel(1L, 1L, 13), new StockLevel(2L, 1L, 4));
+                });
+
+        List<StockLevel> result = inventoryDao.adjustAll(List.of(
+                new StockMovement(1L, 1L, 5),
+                new StockMovement(2L, 1L, -1),
+                new StockMovement(1L, 1L, -2)));
+
+        assertEquals(2, result.size());
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), any(), any(), any(), any());
+    }
+
+    @Test
+    void adjustAll_ShouldSkipQuery_WhenNoMovements() {
+        assertTrue(inventoryDao.adjustAll(List.of()).isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testFindByIds_shouldRunOneQueryPerChunkAndKeyById() {
+        List<Long> ids = LongStream.rangeClosed(1, 2000).boxed().toList();
+        doAnswer(invocation -> {
+            Long[] chunk = (Long[]) ((Object[]) invocation.getRawArguments()[2])[0];
+            if (chunk[0] == 1L) {
+                ResultSet rs = Mockito.mock(ResultSet.class);
+                when(rs.getLong("inventory_id")).thenReturn(1L);
+                invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(contains("i.id = ANY(?)"), any(RowCallbackHandler.class), any(Object[].class));
+
+        Map<Long, Inventory> result = inventoryDao.findByIds(ids);
+
+        assertEquals(List.of(1L), List.copyOf(result.keySet()));
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+}
@@ -0,0 +1,63 @@
+package org.dao.impl;
+
+import org.dao.InventoryLedgerDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InventoryLedgerDaoImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private InventoryLedgerDao inventoryLedgerDao;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        inventoryLedgerDao = new InventoryLedgerDaoImpl(jdbcTemplate);
+    }
+
+    @Test
+    void currentQuantity_ShouldReadCheckpointPlusTail() {
+        when(jdbcTemplate.queryForObject(contains("inventory_snapshots"), eq(Integer.class), eq(1L), eq(2L))).thenReturn(42);
+
+        assertEquals(42, inventoryLedgerDao.currentQuantity(1L, 2L));
+    }
+
+    @Test
+    void snapshot_ShouldFoldMovementsUpToWatermarkWithoutLocking() {
+        when(jdbcTemplate.queryForObject(contains("MAX(id)"), eq(Long.class))).thenReturn(120L);
+        when(jdbcTemplate.update(startsWith("INSERT INTO inventory_snapshots"), eq(120L))).thenReturn(3);
+
+        assertEquals(3, inventoryLedgerDao.snapshot());
+
+        verify(jdbcTemplate).update(contains("m.id <= ?"), eq(120L));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void findLocationIds_ShouldReturnStockedLocations() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class))).thenReturn(List.of(1L, 2L));
+
+        assertEquals(List.of(1L, 2L), inventoryLedgerDao.findLocationIds());
+    }
+
+    @Test
+    void rebuildLocation_ShouldLockStockBeforeReplaying() {
+        when(jdbcTemplate.update(startsWith("UPDATE inventory"), eq(5L), eq(5L))).thenReturn(2);
+
+        assertEquals(2, inventoryLedgerDao.rebuildLocation(5L));
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).query(contains("FOR UPDATE"), any(RowCallbackHandler.class), eq(5L));
+        inOrder.verify(jdbcTemplate).update(startsWith("UPDATE inventory"), eq(5L), eq(5L));
+    }
+}
@@ -0,0 +1,85 @@
+package org.dao.impl;
+
+import org.dao.InventoryReportDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.model.ValuationGrouping;
+import org.model.ValuationRow;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InventoryReportDaoImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private InventoryReportDao inventoryReportDao;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        inventoryReportDao = new InventoryReportDaoImpl(jdbcTemplate);
+    }
+
+    @Test
+    void valuation_ShouldGroupByLocationWithoutJoiningCategories() throws SQLException {
+        List<ValuationRow> rows = new ArrayList<>();
+        String sql = runValuation(ValuationGrouping.LOCATION, rows, rs -> {
+            when(rs.getLong("location_id")).thenReturn(1L);
+            when(rs.getString("location_name")).thenReturn("Store");
+            when(rs.getLong("quantity")).thenReturn(10L);
+            when(rs.getBigDecimal("value")).thenReturn(new BigDecimal("125.00"));
+        });
+
+        assertTrue(sql.contains("GROUP BY l.id, l.name"));
+        assertFalse(sql.contains("categories"));
+        assertEquals(List.of(new ValuationRow(1L, "Store", null, null, 10L, new BigDecimal("125.00"))), rows);
+    }
+
+    @Test
+    void valuation_ShouldGroupByLocationAndCategory() throws SQLException {
+        String sql = runValuation(ValuationGrouping.LOCATION_AND_CATEGORY, new ArrayList<>(), rs -> { });
+
+        assertTrue(sql.contains("GROUP BY l.id, l.name, c.id, c.name"));
+        assertTrue(sql.contains("LEFT JOIN products_categories"));
+    }
+
+    private interface ResultSetStub {
+        void stub(ResultSet rs) throws SQLException;
+    }
+
+    private String runValuation(ValuationGrouping grouping, List<ValuationRow> rows, ResultSetStub stub) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        stub.stub(rs);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        inventoryReportDao.valuation(grouping, rows::add);
+
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(creator.capture(), any(RowCallbackHandler.class));
+
+        Connection conn = mock(Connection.class);
+        when(conn.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(mock(PreparedStatement.class));
+        creator.getValue().createPreparedStatement(conn);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(conn).prepareStatement(sql.capture(), anyInt(), anyInt());
+        return sql.getValue();
+    }
+}
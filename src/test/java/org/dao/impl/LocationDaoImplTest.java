@@ -10,17 +10,19 @@ import org.model.Location;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class LocationDaoImplTest {
 
@@ -147,4 +149,19 @@ class LocationDaoImplTest {
         assertThrows(DataNotFoundException.class, () -> locationDao.deleteById(id));
     }
 
-}
\ No newline at end of file
+
+    @Test
+    void testFindByIds_shouldRunOneQueryPerChunk() {
+        List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+        locationDao.findByIds(ids);
+
+        verify(jdbcTemplate, times(2)).query(contains("id = ANY(?)"), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @Test
+    void testFindByIds_shouldSkipQuery_whenIdsEmpty() {
+        assertTrue(locationDao.findByIds(List.of()).isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
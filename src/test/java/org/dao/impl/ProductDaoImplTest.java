@@ -2,25 +2,40 @@ package org.dao.impl;
 
 import org.dao.ProductDao;
 import org.exception.DataNotFoundException;
+import org.exception.VersionConflictException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.model.Category;
+import org.model.PriceAdjustment;
 import org.model.Product;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 
 import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class ProductDaoImplTest {
     private JdbcTemplate jdbcTemplate;
@@ -89,6 +104,42 @@ class ProductDaoImplTest {
         assertThrows(IllegalStateException.class, () -> productDao.save(product));
     }
 
+    @Test
+    void testSaveAll_shouldBatchInsertProductsAndCategories() {
+        Product other = Product.builder()
+                .name("Other Product")
+                .description("Other Description")
+                .price(BigDecimal.TEN)
+                .categories(List.of(Category.builder().id(1L).build(), Category.builder().id(2L).build()))
+                .build();
+
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class), any(KeyHolder.class)))
+                .thenAnswer(invocation -> {
+                    KeyHolder kh = invocation.getArgument(2);
+                    kh.getKeyList().add(Map.of("id", 10L));
+                    kh.getKeyList().add(Map.of("id", 11L));
+                    return new int[] { 1, 1 };
+                });
+
+        List<Product> saved = productDao.saveAll(List.of(product, other));
+
+        assertEquals(2, saved.size());
+        assertEquals(10L, saved.get(0).getId());
+        assertEquals(11L, saved.get(1).getId());
+
+        ArgumentCaptor<List<Object[]>> links = ArgumentCaptor.captor();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), links.capture());
+        assertEquals(3, links.getValue().size());
+    }
+
+    @Test
+    void testSaveAll_shouldThrowException_WhenKeysMissing() {
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class), any(KeyHolder.class)))
+                .thenReturn(new int[0]);
+
+        assertThrows(IllegalStateException.class, () -> productDao.saveAll(List.of(product)));
+    }
+
     @Test
     void testFindById_shouldReturnProduct_whenFound() {
         long id = 1L;
@@ -110,6 +161,103 @@ class ProductDaoImplTest {
         assertThrows(DataNotFoundException.class, () -> productDao.findById(id));
     }
 
+    @Test
+    void testFindSummaryById_shouldThrowException_whenNotFound() {
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), eq(1L))).thenThrow(new EmptyResultDataAccessException(1));
+
+        assertThrows(DataNotFoundException.class, () -> productDao.findSummaryById(1L));
+    }
+
+    @Test
+    void testFindSummariesByIds_shouldReadProductsTableOnly() {
+        List<Object> params = new ArrayList<>();
+        doAnswer(invocation -> {
+            params.add(invocation.getRawArguments()[2]);
+            return null;
+        }).when(jdbcTemplate).query(argThat((String sql) -> !sql.contains("JOIN") && !sql.contains("description")),
+                any(RowCallbackHandler.class), any(Object[].class));
+
+        productDao.findSummariesByIds(List.of(3L, 1L, 3L));
+
+        assertArrayEquals(new Object[] { new Long[] { 3L, 1L } }, (Object[]) params.getFirst());
+    }
+
+    @Test
+    void testFindSummariesByIds_shouldSkipQuery_whenIdsEmpty() {
+        assertTrue(productDao.findSummariesByIds(List.of()).isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testFindPage_shouldGroupCategoriesByProduct() throws SQLException {
+        ResultSet rs = Mockito.mock(ResultSet.class);
+        when(rs.next()).thenReturn(true, true, true, false);
+        when(rs.getLong("product_id")).thenReturn(1L, 1L, 2L);
+        when(rs.getString("name")).thenReturn("first", "second");
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(LocalDateTime.now()));
+        when(rs.getLong("category_id")).thenReturn(1L, 2L, 0L);
+        when(rs.wasNull()).thenReturn(false, false, true);
+
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq(0L), eq(10)))
+                .thenAnswer(invocation -> ((ResultSetExtractor<?>) invocation.getArgument(1)).extractData(rs));
+
+        List<Product> page = productDao.findPage(null, 10);
+
+        assertEquals(2, page.size());
+        assertEquals(2, page.getFirst().getCategories().size());
+        assertTrue(page.getLast().getCategories().isEmpty());
+    }
+
+    @Test
+    void testStream_shouldUseFetchSize() throws SQLException {
+        Connection conn = Mockito.mock(Connection.class);
+        PreparedStatement ps = Mockito.mock(PreparedStatement.class);
+        when(conn.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(ps);
+
+        productDao.stream(p -> { });
+
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(creator.capture(), any(ResultSetExtractor.class));
+        creator.getValue().createPreparedStatement(conn);
+        verify(ps).setFetchSize(500);
+    }
+
+    @Test
+    void testSearch_shouldStartFromBestRank_whenNoCursor() {
+        productDao.search("coffee", null, null, 20);
+
+        verify(jdbcTemplate).query(argThat((String sql) -> !sql.contains("rank < ?")), any(RowMapper.class), eq("coffee"), eq(20));
+    }
+
+    @Test
+    void testSearch_shouldContinueAfterCursor() {
+        productDao.search("coffee", 0.5f, 7L, 20);
+
+        verify(jdbcTemplate).query(argThat((String sql) -> sql.contains("rank < ? OR (rank = ? AND id > ?)")), any(RowMapper.class),
+                eq("coffee"), eq(0.5f), eq(0.5f), eq(7L), eq(20));
+    }
+
+    @Test
+    void testExportCatalog_shouldPassRowsWithoutBuildingProducts() throws SQLException {
+        ResultSet rs = Mockito.mock(ResultSet.class);
+        java.sql.Array categories = Mockito.mock(java.sql.Array.class);
+        when(rs.getLong("id")).thenReturn(1L);
+        when(rs.getString("name")).thenReturn("Coffee");
+        when(rs.getBigDecimal("price")).thenReturn(BigDecimal.ONE);
+        when(rs.getArray("categories")).thenReturn(categories);
+        when(categories.getArray()).thenReturn(new String[] { "Drinks" });
+
+        doAnswer(invocation -> {
+            ((RowCallbackHandler) invocation.getArgument(1)).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        List<String> rows = new ArrayList<>();
+        productDao.exportCatalog((id, name, description, price, names) -> rows.add(id + ":" + name + ":" + String.join("|", names)));
+
+        assertEquals(List.of("1:Coffee:Drinks"), rows);
+    }
+
     @Test
     void update_ShouldUpdateFields_WhenFieldsPresent() {
         Long id = 1L;
@@ -123,6 +271,27 @@ class ProductDaoImplTest {
         assertEquals(product.getName(), updatedProduct.getName());
     }
 
+    @Test
+    void update_ShouldSyncCategoriesWithTwoStatements() {
+        Long id = 1L;
+        product.setCategories(List.of(Category.builder().id(1L).build(), Category.builder().id(2L).build(), Category.builder().id(2L).build()));
+
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1);
+
+        productDao.update(id, product);
+
+        verify(jdbcTemplate).update(contains("category_id <> ALL(?)"), eq(id), eq(new Long[] { 1L, 2L }));
+        verify(jdbcTemplate).update(contains("unnest(?::int[]) ON CONFLICT DO NOTHING"), eq(id), eq(new Long[] { 1L, 2L }));
+    }
+
+    @Test
+    void update_ShouldNotSyncCategories_WhenProductMissing() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(0);
+
+        assertNull(productDao.update(1L, product));
+        verify(jdbcTemplate, never()).update(contains("products_categories"), any(), any());
+    }
+
     @Test
     void update_ShouldThrowException_WhenNoFieldsProvided() {
         Long id = 1L;
@@ -131,6 +300,52 @@ class ProductDaoImplTest {
         assertThrows(NullPointerException.class, () -> productDao.update(id, product));
     }
 
+    @Test
+    void updateIfVersion_ShouldReturnUpdatedRow() {
+        product.setVersion(4L);
+        when(jdbcTemplate.query(contains("version = ?"), any(ResultSetExtractor.class), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    ResultSet rs = Mockito.mock(ResultSet.class);
+                    when(rs.next()).thenReturn(true, false);
+                    when(rs.getLong("product_id")).thenReturn(1L);
+                    when(rs.getLong("version")).thenReturn(4L);
+                    when(rs.getLong("category_id")).thenReturn(1L);
+                    return ((ResultSetExtractor<?>) invocation.getArgument(1)).extractData(rs);
+                });
+
+        Product updated = productDao.updateIfVersion(1L, 3L, product);
+
+        assertEquals(4L, updated.getVersion());
+        verify(jdbcTemplate, never()).update(contains("products_categories"), any(), any());
+    }
+
+    @Test
+    void updateIfVersion_ShouldThrowConflict_WhenVersionChanged() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1L))).thenReturn(List.of(5L));
+
+        VersionConflictException ex = assertThrows(VersionConflictException.class, () -> productDao.updateIfVersion(1L, 3L, product));
+
+        assertEquals(5L, ex.getCurrentVersion());
+    }
+
+    @Test
+    void updateIfVersion_ShouldThrowNotFound_WhenProductMissing() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1L))).thenReturn(List.of());
+
+        assertThrows(DataNotFoundException.class, () -> productDao.updateIfVersion(1L, 3L, product));
+    }
+
+    @Test
+    void repriceByCategory_ShouldBindStepTwice_WhenRounding() {
+        BigDecimal step = new BigDecimal("0.05");
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(3);
+
+        int changed = productDao.repriceByCategory(2L, PriceAdjustment.ROUND_TO, step, "round");
+
+        assertEquals(3, changed);
+        verify(jdbcTemplate).update(contains("INSERT INTO product_price_history"), eq(step), eq(step), eq(2L), eq("round"));
+    }
+
     @Test
     void deleteById_ShouldDeleteSuccessfully_WhenExists() {
         Long id = 1L;
@@ -152,4 +367,31 @@ class ProductDaoImplTest {
 
         assertThrows(DataNotFoundException.class, () -> productDao.deleteById(id));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFindByIds_shouldRunOneQueryPerChunk() {
+        List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().toList();
+
+        productDao.findByIds(ids);
+
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(3)).query(contains("p.id = ANY(?)"), any(ResultSetExtractor.class), params.capture());
+        assertEquals(List.of(1000, 1000, 500), params.getAllValues().stream().map(p -> ((Long[]) p[0]).length).toList());
+    }
+
+    @Test
+    void testFindByIds_shouldGroupCategoriesByProduct() throws SQLException {
+        ResultSet rs = Mockito.mock(ResultSet.class);
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getLong("product_id")).thenReturn(7L, 7L);
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(LocalDateTime.now()));
+        when(rs.getLong("category_id")).thenReturn(1L, 2L);
+
+        doAnswer(invocation -> ((ResultSetExtractor<?>) invocation.getArgument(1)).extractData(rs))
+                .when(jdbcTemplate).query(anyString(), any(ResultSetExtractor.class), any(Object[].class));
+
+        Map<Long, Product> products = productDao.findByIds(List.of(7L));
+
+        assertEquals(2, products.get(7L).getCategories().size());
+    }
+}
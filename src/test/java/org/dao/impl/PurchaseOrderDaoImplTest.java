@@ -0,0 +1,107 @@
+package org.dao.impl;
+
+import org.dao.PurchaseOrderDao;
+import org.exception.DataNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.model.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PurchaseOrderDaoImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PurchaseOrderDao purchaseOrderDao;
+    private PurchaseOrder order;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        purchaseOrderDao = new PurchaseOrderDaoImpl(jdbcTemplate);
+        order = new PurchaseOrder(10L, 1L, 2L, PurchaseOrderStatus.OPEN, LocalDateTime.now(), null, List.of());
+    }
+
+    @Test
+    void save_ShouldInsertOrderAndPriceLinesFromCatalog() {
+        when(jdbcTemplate.queryForObject(contains("INSERT INTO purchase_orders"), any(RowMapper.class), eq(1L), eq(2L), eq("OPEN")))
+                .thenReturn(order);
+        when(jdbcTemplate.query(contains("JOIN supplier_products"), any(RowMapper.class), eq(10L), any(), any(), eq(1L)))
+                .thenReturn(List.of(new PurchaseOrderLine(5L, 20, BigDecimal.TEN)));
+
+        PurchaseOrder saved = purchaseOrderDao.save(1L, 2L, Map.of(5L, 20));
+
+        assertEquals(10L, saved.id());
+        assertEquals(BigDecimal.TEN, saved.lines().getFirst().unitCost());
+    }
+
+    @Test
+    void save_ShouldRejectProductsTheSupplierDoesNotOffer() {
+        Map<Long, Integer> lines = new LinkedHashMap<>();
+        lines.put(5L, 20);
+        lines.put(6L, 1);
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), any(), any(), any())).thenReturn(order);
+        when(jdbcTemplate.query(contains("JOIN supplier_products"), any(RowMapper.class), any(), any(), any(), any()))
+                .thenReturn(List.of(new PurchaseOrderLine(5L, 20, BigDecimal.TEN)));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> purchaseOrderDao.save(1L, 2L, lines));
+        assertTrue(exception.getMessage().endsWith("[6]"));
+    }
+
+    @Test
+    void findById_ShouldGroupLinesUnderOrder() throws Exception {
+        ResultSet rs = Mockito.mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(10L);
+        when(rs.getLong("supplier_id")).thenReturn(1L);
+        when(rs.getLong("location_id")).thenReturn(2L);
+        when(rs.getString("status")).thenReturn("OPEN");
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(LocalDateTime.now()));
+        when(rs.getLong("product_id")).thenReturn(5L, 6L);
+        when(rs.getInt("quantity")).thenReturn(20, 30);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(contains("WHERE po.id = ?"), any(RowCallbackHandler.class), any(Object[].class));
+
+        PurchaseOrder result = purchaseOrderDao.findById(10L);
+
+        assertEquals(PurchaseOrderStatus.OPEN, result.status());
+        assertEquals(List.of(5L, 6L), result.lines().stream().map(PurchaseOrderLine::productId).toList());
+    }
+
+    @Test
+    void findById_ShouldThrow_WhenMissing() {
+        assertThrows(DataNotFoundException.class, () -> purchaseOrderDao.findById(10L));
+    }
+
+    @Test
+    void receive_ShouldUpsertStockAndLogReceiptsInOneStatement() {
+        when(jdbcTemplate.query(contains("ON CONFLICT (product_id, location_id)"), any(RowMapper.class), eq(10L), eq("RECEIPT"), eq("PO-10")))
+                .thenReturn(List.of(new StockLevel(5L, 2L, 25)));
+
+        assertEquals(List.of(new StockLevel(5L, 2L, 25)), purchaseOrderDao.receive(10L, "PO-10"));
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), any(), any(), any());
+    }
+
+    @Test
+    void cancel_ShouldOnlyCancelOpenOrders() {
+        when(jdbcTemplate.update(contains("status = 'OPEN'"), eq(10L))).thenReturn(1);
+
+        assertEquals(1, purchaseOrderDao.cancel(10L));
+    }
+}
@@ -0,0 +1,67 @@
+package org.dao.impl;
+
+import org.dao.ReorderDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.model.ReorderSuggestion;
+import org.model.ReorderTotals;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReorderDaoImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ReorderDao reorderDao;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        reorderDao = new ReorderDaoImpl(jdbcTemplate);
+    }
+
+    @Test
+    void suggestForLocation_ShouldReplacePreviousSuggestions() {
+        ReorderTotals totals = new ReorderTotals(3, 1, BigDecimal.TEN);
+        when(jdbcTemplate.queryForObject(contains("INSERT INTO reorder_suggestions"), any(RowMapper.class), eq(7L), eq(7L)))
+                .thenReturn(totals);
+
+        assertEquals(totals, reorderDao.suggestForLocation(7L));
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).update(contains("DELETE FROM reorder_suggestions"), eq(7L));
+        inOrder.verify(jdbcTemplate).queryForObject(anyString(), any(RowMapper.class), eq(7L), eq(7L));
+    }
+
+    @Test
+    void streamSuggestions_ShouldMapUnsourcedSuggestion() throws Exception {
+        ResultSet rs = Mockito.mock(ResultSet.class);
+        when(rs.getLong("location_id")).thenReturn(7L);
+        when(rs.getLong("product_id")).thenReturn(3L);
+        when(rs.getObject("supplier_id", Long.class)).thenReturn(null);
+        when(rs.getInt("quantity")).thenReturn(12);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        List<ReorderSuggestion> suggestions = new ArrayList<>();
+        reorderDao.streamSuggestions(7L, suggestions::add);
+
+        assertEquals(1, suggestions.size());
+        assertNull(suggestions.getFirst().supplierId());
+        assertEquals(12, suggestions.getFirst().quantity());
+    }
+}
@@ -0,0 +1,59 @@
+package org.dao.impl;
+
+import org.dao.StockReservationDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.model.StockReservation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class StockReservationDaoImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private StockReservationDao stockReservationDao;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        stockReservationDao = new StockReservationDaoImpl(jdbcTemplate);
+    }
+
+    @Test
+    void save_ShouldReturnReservationWithGeneratedId() {
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class), any(KeyHolder.class)))
+                .thenAnswer(invocation -> {
+                    KeyHolder kh = invocation.getArgument(1);
+                    kh.getKeyList().add(Map.of("id", 9L));
+                    return 1;
+                });
+
+        StockReservation saved = stockReservationDao.save(new StockReservation(null, 1L, 1L, 2, "cart", LocalDateTime.now()));
+
+        assertEquals(9L, saved.id());
+    }
+
+    @Test
+    void save_ShouldThrow_WhenNothingInserted() {
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class), any(KeyHolder.class))).thenReturn(0);
+
+        assertThrows(IllegalStateException.class, () -> stockReservationDao.save(new StockReservation(null, 1L, 1L, 2, null, LocalDateTime.now())));
+    }
+
+    @Test
+    void deleteExpired_ShouldDeleteByExpiry() {
+        LocalDateTime now = LocalDateTime.now();
+        when(jdbcTemplate.update(contains("expires_at <= ?"), eq(Timestamp.valueOf(now)))).thenReturn(3);
+
+        assertEquals(3, stockReservationDao.deleteExpired(now));
+    }
+}
@@ -0,0 +1,60 @@
+package org.dao.impl;
+
+import org.dao.StockSummaryDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class StockSummaryDaoImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private StockSummaryDao stockSummaryDao;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        stockSummaryDao = new StockSummaryDaoImpl(jdbcTemplate);
+    }
+
+    @Test
+    void totalOnHand_ShouldReturnZero_WhenProductHasNoSummary() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1L))).thenReturn(List.of());
+
+        assertEquals(0L, stockSummaryDao.totalOnHand(1L));
+    }
+
+    @Test
+    void totalsOnHand_ShouldRunOneQueryPerChunk() {
+        stockSummaryDao.totalsOnHand(List.of(1L, 2L, 3L));
+
+        verify(jdbcTemplate, times(1)).query(contains("product_id = ANY(?)"), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @Test
+    void repair_ShouldLockSummaryRowsBeforeRecomputing() {
+        when(jdbcTemplate.update(contains("FULL JOIN"), eq(0L), eq(1000L), eq(0L), eq(1000L))).thenReturn(2);
+
+        assertEquals(2, stockSummaryDao.repair(0L, 1000L));
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).query(contains("FOR UPDATE"), any(RowCallbackHandler.class), eq(0L), eq(1000L));
+        inOrder.verify(jdbcTemplate).update(contains("FULL JOIN"), eq(0L), eq(1000L), eq(0L), eq(1000L));
+    }
+
+    @Test
+    void repair_ShouldApplyDriftAsDelta() {
+        stockSummaryDao.repair(0L, 1000L);
+
+        verify(jdbcTemplate).update(contains("quantity = product_stock_summary.quantity + EXCLUDED.quantity"),
+                eq(0L), eq(1000L), eq(0L), eq(1000L));
+    }
+}
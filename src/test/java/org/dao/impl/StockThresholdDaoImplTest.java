@@ -0,0 +1,57 @@
+package org.dao.impl;
+
+import org.dao.StockThresholdDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.model.StockKey;
+import org.model.StockThreshold;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class StockThresholdDaoImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private StockThresholdDao stockThresholdDao;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        stockThresholdDao = new StockThresholdDaoImpl(jdbcTemplate);
+    }
+
+    @Test
+    void save_ShouldUpsertThreshold() {
+        StockThreshold threshold = new StockThreshold(1L, 2L, 5, 20);
+        when(jdbcTemplate.update(contains("ON CONFLICT"), eq(1L), eq(2L), eq(5), eq(20))).thenReturn(1);
+
+        assertEquals(threshold, stockThresholdDao.save(threshold));
+    }
+
+    @Test
+    void save_ShouldThrow_WhenNothingWritten() {
+        when(jdbcTemplate.update(anyString(), any(), any(), any(), any())).thenReturn(0);
+
+        assertThrows(IllegalStateException.class, () -> stockThresholdDao.save(new StockThreshold(1L, 2L, 5, 20)));
+    }
+
+    @Test
+    void findBelowLowLevel_ShouldJoinInventory() {
+        when(jdbcTemplate.query(contains("i.quantity <= t.low_level"), any(RowMapper.class))).thenReturn(List.of(new StockKey(1L, 2L)));
+
+        assertEquals(List.of(new StockKey(1L, 2L)), stockThresholdDao.findBelowLowLevel());
+    }
+
+    @Test
+    void delete_ShouldReturnDeletedRows() {
+        when(jdbcTemplate.update(anyString(), eq(1L), eq(2L))).thenReturn(1);
+
+        assertEquals(1, stockThresholdDao.delete(1L, 2L));
+    }
+}
@@ -6,18 +6,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.model.Supplier;
+import org.model.SupplierSearchHit;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 
+import java.sql.ResultSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class SupplierDaoImplTest {
@@ -144,4 +149,62 @@ class SupplierDaoImplTest {
 
         assertThrows(DataNotFoundException.class, () -> supplierDao.deleteById(0L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFindPage_firstPage() {
+        when(jdbcTemplate.query(contains("ORDER BY name, id LIMIT ?"), any(RowMapper.class), eq(20))).thenReturn(List.of(supplier));
+
+        assertEquals(List.of(supplier), supplierDao.findPage(null, null, 20));
+    }
+
+    @Test
+    void testFindPage_afterCursor() {
+        when(jdbcTemplate.query(contains("WHERE (name, id) > (?, ?)"), any(RowMapper.class), eq("name"), eq(1L), eq(20))).thenReturn(List.of(supplier));
+
+        assertEquals(List.of(supplier), supplierDao.findPage("name", 1L, 20));
+    }
+
+    @Test
+    void testEstimateCount() {
+        when(jdbcTemplate.queryForObject(contains("reltuples"), eq(Long.class))).thenReturn(-1L);
+
+        assertEquals(-1L, supplierDao.estimateCount());
+    }
+
+    @Test
+    void testUpsertAll_shouldReportInsertedAndUpdatedByName() {
+        doAnswer(invocation -> {
+            Object[] args = (Object[]) invocation.getRawArguments()[2];
+            assertArrayEquals(new String[]{"name", "other"}, (String[]) args[0]);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            ResultSet rs = Mockito.mock(ResultSet.class);
+            when(rs.getString("name")).thenReturn("name", "other");
+            when(rs.getBoolean("inserted")).thenReturn(true, false);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(contains("ON CONFLICT (name)"), any(RowCallbackHandler.class), any(Object[].class));
+
+        Map<String, Boolean> result = supplierDao.upsertAll(List.of(supplier,
+                Supplier.builder().name("other").contactName("c").phoneNumber("1").email("o@gmail.com").address("a").build()));
+
+        assertEquals(Map.of("name", true, "other", false), result);
+    }
+
+    @Test
+    void testUpsertAll_shouldSkipQuery_WhenEmpty() {
+        assertTrue(supplierDao.upsertAll(List.of()).isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testSearch_shouldFilterWithTrigramOperatorsAndRank() {
+        SupplierSearchHit hit = new SupplierSearchHit(1L, "name", "contact", "test@gmail.com", "+84 37 84 038", 0.8f);
+        when(jdbcTemplate.query(argThat((String sql) -> sql.contains("? <% name OR ? <% contact_name OR ? <% email")
+                        && sql.contains("ORDER BY similarity DESC, id LIMIT ?")), any(RowMapper.class),
+                eq("acme"), eq("acme"), eq("acme"), eq("acme"), eq("acme"), eq("acme"), eq(10)))
+                .thenReturn(List.of(hit));
+
+        assertEquals(List.of(hit), supplierDao.search("acme", 10));
+    }
+}
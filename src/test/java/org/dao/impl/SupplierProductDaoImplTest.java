@@ -0,0 +1,76 @@
+package org.dao.impl;
+
+import org.dao.SupplierProductDao;
+import org.exception.DataNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.model.SupplierProduct;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SupplierProductDaoImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SupplierProductDao supplierProductDao;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        supplierProductDao = new SupplierProductDaoImpl(jdbcTemplate);
+    }
+
+    @Test
+    void save_ShouldUpsertOffer() {
+        SupplierProduct offer = new SupplierProduct(1L, 2L, BigDecimal.TEN, 7, 12);
+        when(jdbcTemplate.update(contains("ON CONFLICT"), eq(1L), eq(2L), eq(BigDecimal.TEN), eq(7), eq(12))).thenReturn(1);
+
+        assertEquals(offer, supplierProductDao.save(offer));
+    }
+
+    @Test
+    void findCheapest_ShouldReadFirstOfferByCost() {
+        SupplierProduct offer = new SupplierProduct(1L, 2L, BigDecimal.ONE, 3, 1);
+        when(jdbcTemplate.queryForObject(contains("ORDER BY unit_cost, supplier_id LIMIT 1"), any(RowMapper.class), eq(2L))).thenReturn(offer);
+
+        assertEquals(offer, supplierProductDao.findCheapest(2L));
+    }
+
+    @Test
+    void findCheapest_ShouldThrow_WhenNobodyOffersProduct() {
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), eq(2L))).thenThrow(new EmptyResultDataAccessException(1));
+
+        assertThrows(DataNotFoundException.class, () -> supplierProductDao.findCheapest(2L));
+    }
+
+    @Test
+    void findCheapest_ShouldRunOneQueryPerChunk() {
+        supplierProductDao.findCheapest(LongStream.rangeClosed(1, 1500).boxed().toList());
+
+        verify(jdbcTemplate, times(2)).query(contains("DISTINCT ON (product_id)"), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @Test
+    void delete_ShouldReturnDeletedRows() {
+        when(jdbcTemplate.update(anyString(), eq(1L), eq(2L))).thenReturn(1);
+
+        assertEquals(1, supplierProductDao.delete(1L, 2L));
+    }
+
+    @Test
+    void findBySupplierId_ShouldQueryBySupplier() {
+        when(jdbcTemplate.query(contains("WHERE supplier_id = ?"), any(RowMapper.class), eq(1L))).thenReturn(List.of());
+
+        assertTrue(supplierProductDao.findBySupplierId(1L).isEmpty());
+    }
+}
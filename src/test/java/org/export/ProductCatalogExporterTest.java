@@ -0,0 +1,88 @@
+package org.export;
+
+import org.dao.CatalogRowHandler;
+import org.dao.ProductDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+class ProductCatalogExporterTest {
+
+    @TempDir
+    Path dir;
+
+    private ProductCatalogExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        ProductDao productDao = Mockito.mock(ProductDao.class);
+        exporter = new ProductCatalogExporter(productDao);
+
+        doAnswer(invocation -> {
+            CatalogRowHandler handler = invocation.getArgument(0);
+            handler.row(1L, "Coffee", "Dark, \"strong\" roast", new BigDecimal("12.50"), new String[] { "Drinks", "Hot" });
+            handler.row(2L, "Tea", null, new BigDecimal("3.00"), new String[0]);
+            return null;
+        }).when(productDao).exportCatalog(any(CatalogRowHandler.class));
+    }
+
+    @Test
+    void testExport_shouldWriteCsv() throws IOException {
+        Path target = dir.resolve("catalog.csv");
+
+        long rows = exporter.export(target, CatalogExportFormat.CSV, false);
+
+        assertEquals(2, rows);
+        assertEquals("id,name,description,price,categories\r\n" +
+                "1,Coffee,\"Dark, \"\"strong\"\" roast\",12.50,Drinks|Hot\r\n" +
+                "2,Tea,,3.00,\r\n", Files.readString(target));
+    }
+
+    @Test
+    void testExport_shouldWriteGzippedBinary() throws IOException {
+        Path target = dir.resolve("catalog.bin.gz");
+
+        exporter.export(target, CatalogExportFormat.BINARY, true);
+
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(Files.newInputStream(target)))) {
+            assertArrayEquals(BinaryCatalogWriter.MAGIC, in.readNBytes(4));
+            assertEquals(BinaryCatalogWriter.VERSION, in.readByte());
+
+            int length = in.readInt();
+            assertEquals(1L, in.readLong());
+            assertEquals(1250L, in.readLong());
+            assertEquals("Coffee", readString(in));
+            assertEquals("Dark, \"strong\" roast", readString(in));
+            assertEquals(2, in.readShort());
+            assertEquals("Drinks", readString(in));
+            assertEquals("Hot", readString(in));
+            assertEquals(8 + 8 + 4 + 6 + 4 + 20 + 2 + 4 + 6 + 4 + 3, length);
+
+            in.readInt();
+            assertEquals(2L, in.readLong());
+            assertEquals(300L, in.readLong());
+            assertEquals("Tea", readString(in));
+            assertNull(readString(in));
+            assertEquals(0, in.readShort());
+            assertEquals(-1, in.read());
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        return length < 0 ? null : new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,61 @@
+package org.service.impl;
+
+import org.alert.LowStockEvaluator;
+import org.dao.CycleCountDao;
+import org.dao.LocationDao;
+import org.dto.CycleCountResult;
+import org.exception.DataNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.model.CountDiscrepancy;
+import org.service.CycleCountService;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CycleCountServiceImplTest {
+
+    @TempDir
+    Path dir;
+
+    private CycleCountDao cycleCountDao;
+    private LocationDao locationDao;
+    private LowStockEvaluator lowStockEvaluator;
+    private CycleCountService cycleCountService;
+
+    @BeforeEach
+    void setUp() {
+        cycleCountDao = mock(CycleCountDao.class);
+        locationDao = mock(LocationDao.class);
+        lowStockEvaluator = mock(LowStockEvaluator.class);
+        cycleCountService = new CycleCountServiceImpl(cycleCountDao, locationDao, lowStockEvaluator);
+    }
+
+    @Test
+    void reconcile_ShouldEvaluateCorrectedStock() throws IOException {
+        Path file = Files.writeString(dir.resolve("count.csv"), "product_id,quantity\n1,2\n");
+        CycleCountResult result = new CycleCountResult(4L, 1, List.of(new CountDiscrepancy(1L, 10, 2)), List.of());
+        when(locationDao.isLocationExist(4L, null)).thenReturn(true);
+        when(cycleCountDao.reconcile(eq(4L), any(Reader.class), eq("count-1"))).thenReturn(result);
+
+        assertEquals(result, cycleCountService.reconcile(4L, file, "count-1"));
+        verify(lowStockEvaluator).evaluate(1L, 4L, 2);
+    }
+
+    @Test
+    void reconcile_ShouldThrow_WhenLocationMissing() {
+        when(locationDao.isLocationExist(4L, null)).thenReturn(false);
+
+        assertThrows(DataNotFoundException.class, () -> cycleCountService.reconcile(4L, dir.resolve("count.csv"), null));
+        verifyNoInteractions(cycleCountDao);
+    }
+}
@@ -0,0 +1,62 @@
+package org.service.impl;
+
+import org.dao.InventoryLedgerDao;
+import org.dto.LedgerRebuildResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.service.InventoryLedgerService;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InventoryLedgerServiceImplTest {
+
+    private InventoryLedgerDao inventoryLedgerDao;
+    private InventoryLedgerService inventoryLedgerService;
+
+    @BeforeEach
+    void setUp() {
+        inventoryLedgerDao = mock(InventoryLedgerDao.class);
+        inventoryLedgerService = new InventoryLedgerServiceImpl(inventoryLedgerDao, 2);
+    }
+
+    @Test
+    void rebuild_ShouldReplayEveryLocation() {
+        when(inventoryLedgerDao.findLocationIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(inventoryLedgerDao.rebuildLocation(1L)).thenReturn(2);
+        when(inventoryLedgerDao.rebuildLocation(2L)).thenReturn(0);
+        when(inventoryLedgerDao.rebuildLocation(3L)).thenReturn(1);
+
+        LedgerRebuildResult result = inventoryLedgerService.rebuild();
+
+        assertEquals(new LedgerRebuildResult(3, 3, List.of()), result);
+    }
+
+    @Test
+    void rebuild_ShouldReportFailedLocationAndContinue() {
+        when(inventoryLedgerDao.findLocationIds()).thenReturn(List.of(1L, 2L));
+        when(inventoryLedgerDao.rebuildLocation(1L)).thenThrow(new QueryTimeoutException("timeout"));
+        when(inventoryLedgerDao.rebuildLocation(2L)).thenReturn(4);
+
+        LedgerRebuildResult result = inventoryLedgerService.rebuild();
+
+        assertEquals(4, result.corrected());
+        assertEquals(List.of("Location 1: timeout"), result.errors());
+    }
+
+    @Test
+    void rebuild_ShouldSkip_WhenNoStock() {
+        when(inventoryLedgerDao.findLocationIds()).thenReturn(List.of());
+
+        assertEquals(0, inventoryLedgerService.rebuild().locations());
+        verify(inventoryLedgerDao, never()).rebuildLocation(anyLong());
+    }
+
+    @Test
+    void findMovements_ShouldRejectNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> inventoryLedgerService.findMovements(1L, 1L, null, 0));
+    }
+}
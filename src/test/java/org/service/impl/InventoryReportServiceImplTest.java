@@ -0,0 +1,77 @@
+package org.service.impl;
+
+import org.cache.ExpiringLruCache;
+import org.dao.InventoryReportDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.model.ValuationGrouping;
+import org.model.ValuationRow;
+import org.service.InventoryReportService;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class InventoryReportServiceImplTest {
+
+    @TempDir
+    Path dir;
+
+    private InventoryReportDao inventoryReportDao;
+    private InventoryReportService inventoryReportService;
+
+    @BeforeEach
+    void setUp() {
+        inventoryReportDao = mock(InventoryReportDao.class);
+        inventoryReportService = new InventoryReportServiceImpl(inventoryReportDao, new ExpiringLruCache<>(3, Duration.ofMinutes(1)));
+
+        doAnswer(invocation -> {
+            Consumer<ValuationRow> consumer = invocation.getArgument(1);
+            consumer.accept(new ValuationRow(1L, "Main, North", 2L, "Drinks", 12L, new BigDecimal("30.00")));
+            consumer.accept(new ValuationRow(1L, "Main, North", null, null, 3L, new BigDecimal("4.50")));
+            return null;
+        }).when(inventoryReportDao).valuation(any(), any());
+    }
+
+    @Test
+    void valuation_ShouldServeRepeatedCallsFromCache() {
+        List<ValuationRow> first = inventoryReportService.valuation(ValuationGrouping.LOCATION_AND_CATEGORY);
+        List<ValuationRow> second = inventoryReportService.valuation(ValuationGrouping.LOCATION_AND_CATEGORY);
+
+        assertEquals(2, first.size());
+        assertSame(first, second);
+        verify(inventoryReportDao, times(1)).valuation(eq(ValuationGrouping.LOCATION_AND_CATEGORY), any());
+    }
+
+    @Test
+    void invalidate_ShouldForceFreshQuery() {
+        inventoryReportService.valuation(ValuationGrouping.LOCATION);
+        inventoryReportService.invalidate();
+        inventoryReportService.valuation(ValuationGrouping.LOCATION);
+
+        verify(inventoryReportDao, times(2)).valuation(eq(ValuationGrouping.LOCATION), any());
+    }
+
+    @Test
+    void exportValuation_ShouldWriteCsv() throws IOException {
+        Path target = dir.resolve("valuation.csv");
+
+        long rows = inventoryReportService.exportValuation(ValuationGrouping.LOCATION_AND_CATEGORY, target);
+
+        assertEquals(2, rows);
+        assertEquals("location_id,location_name,category_id,category_name,quantity,value\r\n" +
+                "1,\"Main, North\",2,Drinks,12,30.00\r\n" +
+                "1,\"Main, North\",,,3,4.50\r\n", Files.readString(target, StandardCharsets.UTF_8));
+    }
+}
@@ -1,17 +1,22 @@
 package org.service.impl;
 
+import org.alert.LowStockEvaluator;
 import org.dao.InventoryDao;
 import org.dao.LocationDao;
 import org.dao.ProductDao;
+import org.dao.StockSummaryDao;
 import org.dto.InventoryRequest;
 import org.exception.DataNotFoundException;
+import org.exception.InsufficientStockException;
 import org.exception.InvalidValidatorException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.model.Inventory;
 import org.model.Location;
+import org.model.MovementReason;
 import org.model.Product;
+import org.model.ProductSummary;
 import org.service.InventoryService;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.validation.Errors;
@@ -22,6 +27,7 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -34,6 +40,8 @@ class InventoryServiceImplTest {
     private LocationDao locationDao;
     private InventoryDao inventoryDao;
     private InventoryRequestValidator inventoryRequestValidator;
+    private LowStockEvaluator lowStockEvaluator;
+    private StockSummaryDao stockSummaryDao;
 
     private InventoryService inventoryService;
 
@@ -47,7 +55,9 @@ class InventoryServiceImplTest {
         locationDao = Mockito.mock(LocationDao.class);
         inventoryDao = Mockito.mock(InventoryDao.class);
         inventoryRequestValidator = Mockito.mock(InventoryRequestValidator.class);
-        inventoryService = new InventoryServiceImpl(inventoryDao, productDao, locationDao, inventoryRequestValidator);
+        lowStockEvaluator = Mockito.mock(LowStockEvaluator.class);
+        stockSummaryDao = Mockito.mock(StockSummaryDao.class);
+        inventoryService = new InventoryServiceImpl(inventoryDao, productDao, locationDao, inventoryRequestValidator, lowStockEvaluator, stockSummaryDao);
 
         product = Product.builder()
                 .id(1L)
@@ -76,7 +86,7 @@ class InventoryServiceImplTest {
         InventoryRequest request = new InventoryRequest(inventory.getProduct().getId(), inventory.getLocation().getId(), inventory.getQuantity());
         when(productDao.isProductExists(1L)).thenReturn(true);
         when(locationDao.isLocationExist(1L, null)).thenReturn(true);
-        when(productDao.findById(1L)).thenReturn(product);
+        when(productDao.findSummaryById(1L)).thenReturn(new ProductSummary(1L, "name", BigDecimal.ONE));
         when(locationDao.findById(1L)).thenReturn(location);
         when(inventoryService.save(request)).thenReturn(inventory);
 
@@ -131,6 +141,20 @@ class InventoryServiceImplTest {
         assertNull(result);
     }
 
+    @Test
+    void testFindAllByProduct_success() {
+        when(inventoryDao.findAllByProduct(1L)).thenReturn(List.of(inventory));
+
+        assertEquals(List.of(inventory), inventoryService.findAllByProduct(1L));
+    }
+
+    @Test
+    void testFindByProductAndLocation_notFound() {
+        when(inventoryDao.findByProductAndLocation(1L, 2L)).thenThrow(new DataNotFoundException("Inventory not found"));
+
+        assertThrows(DataNotFoundException.class, () -> inventoryService.findByProductAndLocation(1L, 2L));
+    }
+
     @Test
     void testUpdate_success() {
         InventoryRequest request = new InventoryRequest(inventory.getProduct().getId(), inventory.getLocation().getId(), inventory.getQuantity());
@@ -138,7 +162,7 @@ class InventoryServiceImplTest {
         when(locationDao.isLocationExist(1L, null)).thenReturn(true);
         when(inventoryDao.isInventoryExist(1L)).thenReturn(true);
 
-        when(productDao.findById(1L)).thenReturn(product);
+        when(productDao.findSummaryById(1L)).thenReturn(new ProductSummary(1L, "name", BigDecimal.ONE));
         when(locationDao.findById(1L)).thenReturn(location);
         when(inventoryDao.findById(1L)).thenReturn(inventory);
         when(inventoryService.update(1L, request)).thenReturn(inventory);
@@ -159,6 +183,24 @@ class InventoryServiceImplTest {
         assertTrue(exception.getMessage().contains("not found"));
     }
 
+    @Test
+    void testAdjust_success() {
+        when(inventoryDao.adjust(1L, 1L, -3, MovementReason.ADJUSTMENT, null)).thenReturn(17);
+
+        assertEquals(17, inventoryService.adjust(1L, 1L, -3));
+        verify(lowStockEvaluator).evaluate(1L, 1L, 17);
+        verify(inventoryDao, never()).isInventoryExist(any());
+        verify(inventoryDao, never()).findById(any());
+    }
+
+    @Test
+    void testAdjust_insufficientStock() {
+        when(inventoryDao.adjust(1L, 1L, -30, MovementReason.ADJUSTMENT, null)).thenThrow(new InsufficientStockException("Insufficient stock", 20, 30));
+
+        InsufficientStockException ex = assertThrows(InsufficientStockException.class, () -> inventoryService.adjust(1L, 1L, -30));
+        assertEquals(20, ex.getAvailable());
+    }
+
     @Test
     void testDeleteById_success() {
         when(inventoryDao.isInventoryExist(1L)).thenReturn(true);
@@ -177,4 +219,11 @@ class InventoryServiceImplTest {
 
         assertTrue(exception.getMessage().contains("not found"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testTotalsOnHand_shouldDefaultMissingProductsToZero() {
+        when(stockSummaryDao.totalsOnHand(List.of(1L, 2L))).thenReturn(Map.of(1L, 40L));
+
+        assertEquals(Map.of(1L, 40L, 2L, 0L), inventoryService.totalsOnHand(List.of(1L, 2L)));
+    }
+}
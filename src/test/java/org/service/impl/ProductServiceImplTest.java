@@ -1,26 +1,37 @@
 package org.service.impl;
 
+import org.cache.ExpiringLruCache;
 import org.dao.CategoryDao;
 import org.dao.ProductDao;
+import org.dto.ImportChunkResult;
 import org.dto.ProductRequest;
+import org.dto.RepriceRequest;
 import org.exception.DataNotFoundException;
 import org.exception.InvalidValidatorException;
+import org.exception.VersionConflictException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.model.Category;
+import org.model.PriceAdjustment;
 import org.model.Product;
+import org.model.ProductSearchHit;
 import org.service.ProductService;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.validation.Errors;
 import org.validators.ProductRequestValidator;
+import org.validators.RepriceRequestValidator;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -29,6 +40,7 @@ class ProductServiceImplTest {
     private ProductDao productDao;
     private CategoryDao categoryDao;
     private ProductRequestValidator productRequestValidator;
+    private ExpiringLruCache<Long, Product> productCache;
     private ProductService productService;
 
     private Product product;
@@ -41,7 +53,8 @@ class ProductServiceImplTest {
         productDao = Mockito.mock(ProductDao.class);
         categoryDao = Mockito.mock(CategoryDao.class);
         productRequestValidator = Mockito.mock(ProductRequestValidator.class);
-        productService = new ProductServiceImpl(productDao, categoryDao, productRequestValidator);
+        productCache = new ExpiringLruCache<>(100, Duration.ofMinutes(5));
+        productService = new ProductServiceImpl(productDao, categoryDao, productRequestValidator, new RepriceRequestValidator(), productCache);
 
         category = Category.builder().name("name").build();
         product = Product.builder()
@@ -58,7 +71,7 @@ class ProductServiceImplTest {
 
     @Test
     void testSave_shouldSuccess() {
-        when(categoryDao.findByName("name")).thenReturn(category);
+        when(categoryDao.findByNames(List.of("name"))).thenReturn(List.of(category));
         when(productService.save(productRequest)).thenReturn(product);
 
         Product saved = productService.save(productRequest);
@@ -69,6 +82,16 @@ class ProductServiceImplTest {
         assertEquals(List.of(category), saved.getCategories());
     }
 
+    @Test
+    void testSave_shouldThrowException_whenCategoryMissing() {
+        when(categoryDao.findByNames(List.of("name"))).thenReturn(List.of());
+
+        Exception ex = assertThrows(DataNotFoundException.class, () -> productService.save(productRequest));
+
+        assertTrue(ex.getMessage().contains("name"));
+        verify(productDao, never()).save(any(Product.class));
+    }
+
     @Test
     void testSave_shouldThrowExceptionWhenValidationFails() {
         doAnswer(invocation -> {
@@ -90,6 +113,43 @@ class ProductServiceImplTest {
         assertEquals("Price must not be empty", message.getLast());
     }
 
+    @Test
+    void testImportAll_shouldReportInvalidRowsAndContinue() {
+        ProductRequest invalid = new ProductRequest("", "description", BigDecimal.ONE, List.of("name"));
+        ProductRequest second = new ProductRequest("second", "description", BigDecimal.TEN, List.of("name"));
+        doAnswer(invocation -> {
+            Errors errors = invocation.getArgument(1);
+            errors.rejectValue("name", "invalid", "Product name must not be empty");
+            return null;
+        }).when(productRequestValidator).validate(eq(invalid), any(Errors.class));
+        when(categoryDao.findByNames(List.of("name"))).thenReturn(List.of(category));
+        when(productDao.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<ImportChunkResult> results = productService.importAll(List.of(productRequest, invalid, second), 2);
+
+        assertEquals(2, results.size());
+        assertEquals(1, results.getFirst().inserted());
+        assertEquals(1, results.getFirst().rejected());
+        assertEquals("Row 1: Product name must not be empty", results.getFirst().errors().getFirst());
+        assertEquals(1, results.getLast().inserted());
+        verify(productDao, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void testImportAll_shouldReportFailedChunkAndContinue() {
+        when(categoryDao.findByNames(List.of("name"))).thenReturn(List.of(category));
+        when(productDao.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<ImportChunkResult> results = productService.importAll(List.of(productRequest,
+                new ProductRequest("second", "description", BigDecimal.TEN, List.of("name"))), 1);
+
+        assertEquals(0, results.getFirst().inserted());
+        assertEquals(1, results.getFirst().rejected());
+        assertEquals(1, results.getLast().inserted());
+    }
+
     @Test
     void testFindById_shouldSuccess() {
         when(productService.findById(1L)).thenReturn(product);
@@ -109,6 +169,44 @@ class ProductServiceImplTest {
         assertNull(result);
     }
 
+    @Test
+    void testFindById_shouldServeRepeatedLookupsFromCache() {
+        when(productDao.findById(1L)).thenReturn(product);
+
+        productService.findById(1L);
+        Product result = productService.findById(1L);
+
+        assertEquals(product, result);
+        verify(productDao, times(1)).findById(1L);
+        assertEquals(1, productCache.stats().hits());
+    }
+
+    @Test
+    void testUpdate_shouldInvalidateCachedProduct() {
+        when(productDao.findById(1L)).thenReturn(product);
+        when(productDao.isProductExists(1L)).thenReturn(true);
+        when(productDao.update(eq(1L), any(Product.class))).thenReturn(product);
+
+        productService.findById(1L);
+        productService.update(1L, productRequest);
+
+        assertNull(productCache.getIfPresent(1L));
+    }
+
+    @Test
+    void testSearch_shouldReturnEmpty_whenQueryBlank() {
+        assertTrue(productService.search("  ", 10).isEmpty());
+        verifyNoInteractions(productDao);
+    }
+
+    @Test
+    void testSearch_shouldDelegateTrimmedQuery() {
+        ProductSearchHit hit = new ProductSearchHit(1L, "name", "description", BigDecimal.ONE, 0.5f);
+        when(productDao.search("name", null, null, 10)).thenReturn(List.of(hit));
+
+        assertEquals(List.of(hit), productService.search(" name ", 10));
+    }
+
     @Test
     void testUpdate_shouldSuccess() {
         when(productDao.isProductExists(1L)).thenReturn(true);
@@ -152,6 +250,52 @@ class ProductServiceImplTest {
         assertEquals("Price must not be empty", message.getLast());
     }
 
+    @Test
+    void testUpdateWithVersion_shouldUpdateInOneCall() {
+        when(categoryDao.findByNames(List.of("name"))).thenReturn(List.of(category));
+        when(productDao.updateIfVersion(eq(1L), eq(3L), any(Product.class))).thenReturn(product);
+
+        Product updated = productService.update(1L, 3L, productRequest);
+
+        assertEquals(product, updated);
+        verify(productDao, never()).isProductExists(anyLong());
+        verify(productDao, never()).findById(anyLong());
+    }
+
+    @Test
+    void testUpdateWithVersion_shouldPropagateConflict() {
+        when(categoryDao.findByNames(List.of("name"))).thenReturn(List.of(category));
+        when(productDao.updateIfVersion(eq(1L), eq(3L), any(Product.class)))
+                .thenThrow(new VersionConflictException("conflict", 4L));
+
+        VersionConflictException ex = assertThrows(VersionConflictException.class, () -> productService.update(1L, 3L, productRequest));
+
+        assertEquals(4L, ex.getCurrentVersion());
+    }
+
+    @Test
+    void testRepriceCategory_shouldRepriceAndClearCache() {
+        category.setId(5L);
+        when(categoryDao.findByName("name")).thenReturn(category);
+        when(productDao.findById(1L)).thenReturn(product);
+        when(productDao.repriceByCategory(5L, PriceAdjustment.PERCENTAGE, BigDecimal.valueOf(-15), "promo")).thenReturn(42);
+
+        productService.findById(1L);
+        int changed = productService.repriceCategory(new RepriceRequest("name", PriceAdjustment.PERCENTAGE, BigDecimal.valueOf(-15), "promo"));
+
+        assertEquals(42, changed);
+        assertEquals(0, productCache.stats().size());
+    }
+
+    @Test
+    void testRepriceCategory_shouldRejectNonPositiveRoundingStep() {
+        InvalidValidatorException ex = assertThrows(InvalidValidatorException.class,
+                () -> productService.repriceCategory(new RepriceRequest("name", PriceAdjustment.ROUND_TO, BigDecimal.ZERO, "promo")));
+
+        assertEquals("Rounding step must be greater than 0", ex.getAllMessage().getFirst());
+        verifyNoInteractions(productDao);
+    }
+
     @Test
     void testDeleteById_shouldSuccess() {
         when(productDao.isProductExists(1L)).thenReturn(true);
@@ -0,0 +1,94 @@
+package org.service.impl;
+
+import org.alert.LowStockEvaluator;
+import org.dao.LocationDao;
+import org.dao.PurchaseOrderDao;
+import org.dao.SupplierDao;
+import org.dto.PurchaseOrderRequest;
+import org.exception.DataNotFoundException;
+import org.exception.InvalidValidatorException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.model.PurchaseOrder;
+import org.model.PurchaseOrderStatus;
+import org.model.StockLevel;
+import org.service.PurchaseOrderService;
+import org.validators.PurchaseOrderRequestValidator;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PurchaseOrderServiceImplTest {
+
+    private PurchaseOrderDao purchaseOrderDao;
+    private SupplierDao supplierDao;
+    private LocationDao locationDao;
+    private LowStockEvaluator lowStockEvaluator;
+    private PurchaseOrderService purchaseOrderService;
+
+    @BeforeEach
+    void setUp() {
+        purchaseOrderDao = mock(PurchaseOrderDao.class);
+        supplierDao = mock(SupplierDao.class);
+        locationDao = mock(LocationDao.class);
+        lowStockEvaluator = mock(LowStockEvaluator.class);
+        purchaseOrderService = new PurchaseOrderServiceImpl(purchaseOrderDao, supplierDao, locationDao, lowStockEvaluator, new PurchaseOrderRequestValidator());
+    }
+
+    private PurchaseOrder order(PurchaseOrderStatus status) {
+        return new PurchaseOrder(10L, 1L, 2L, status, LocalDateTime.now(), null, List.of());
+    }
+
+    @Test
+    void create_ShouldSaveOrderForExistingSupplierAndLocation() {
+        when(supplierDao.isSupplierExists(1L)).thenReturn(true);
+        when(locationDao.isLocationExist(2L, null)).thenReturn(true);
+        when(purchaseOrderDao.save(1L, 2L, Map.of(5L, 20))).thenReturn(order(PurchaseOrderStatus.OPEN));
+
+        assertEquals(10L, purchaseOrderService.create(new PurchaseOrderRequest(1L, 2L, Map.of(5L, 20))).id());
+    }
+
+    @Test
+    void create_ShouldRejectEmptyOrder() {
+        assertThrows(InvalidValidatorException.class, () -> purchaseOrderService.create(new PurchaseOrderRequest(1L, 2L, Map.of())));
+        verifyNoInteractions(purchaseOrderDao);
+    }
+
+    @Test
+    void create_ShouldThrow_WhenLocationMissing() {
+        when(supplierDao.isSupplierExists(1L)).thenReturn(true);
+        when(locationDao.isLocationExist(2L, null)).thenReturn(false);
+
+        assertThrows(DataNotFoundException.class, () -> purchaseOrderService.create(new PurchaseOrderRequest(1L, 2L, Map.of(5L, 20))));
+    }
+
+    @Test
+    void receive_ShouldApplyLinesAndEvaluateLowStock() {
+        List<StockLevel> levels = List.of(new StockLevel(5L, 2L, 25));
+        when(purchaseOrderDao.findById(10L)).thenReturn(order(PurchaseOrderStatus.OPEN));
+        when(purchaseOrderDao.receive(10L, "PO-10")).thenReturn(levels);
+
+        assertEquals(levels, purchaseOrderService.receive(10L));
+        verify(lowStockEvaluator).evaluate(levels);
+    }
+
+    @Test
+    void receive_ShouldRefuseClosedOrder() {
+        when(purchaseOrderDao.findById(10L)).thenReturn(order(PurchaseOrderStatus.RECEIVED));
+
+        assertThrows(IllegalStateException.class, () -> purchaseOrderService.receive(10L));
+        verify(purchaseOrderDao, never()).receive(anyLong(), anyString());
+    }
+
+    @Test
+    void cancel_ShouldThrow_WhenOrderClosedConcurrently() {
+        when(purchaseOrderDao.findById(10L)).thenReturn(order(PurchaseOrderStatus.OPEN));
+        when(purchaseOrderDao.cancel(10L)).thenReturn(0);
+
+        assertThrows(IllegalStateException.class, () -> purchaseOrderService.cancel(10L));
+    }
+}
@@ -0,0 +1,59 @@
+package org.service.impl;
+
+import org.dao.ReorderDao;
+import org.dto.ReorderRunResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.model.ReorderTotals;
+import org.service.ReorderService;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReorderServiceImplTest {
+
+    private ReorderDao reorderDao;
+    private ReorderService reorderService;
+
+    @BeforeEach
+    void setUp() {
+        reorderDao = mock(ReorderDao.class);
+        reorderService = new ReorderServiceImpl(reorderDao, 2);
+    }
+
+    @Test
+    void run_ShouldSumEveryLocation() {
+        when(reorderDao.findLocationIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(reorderDao.suggestForLocation(1L)).thenReturn(new ReorderTotals(4, 1, new BigDecimal("30.00")));
+        when(reorderDao.suggestForLocation(2L)).thenReturn(new ReorderTotals(0, 0, BigDecimal.ZERO));
+        when(reorderDao.suggestForLocation(3L)).thenReturn(new ReorderTotals(2, 0, new BigDecimal("12.50")));
+
+        ReorderRunResult result = reorderService.run();
+
+        assertEquals(new ReorderRunResult(3, 6, 1, new BigDecimal("42.50"), List.of()), result);
+    }
+
+    @Test
+    void run_ShouldReportFailedLocationAndContinue() {
+        when(reorderDao.findLocationIds()).thenReturn(List.of(1L, 2L));
+        when(reorderDao.suggestForLocation(1L)).thenThrow(new QueryTimeoutException("timeout"));
+        when(reorderDao.suggestForLocation(2L)).thenReturn(new ReorderTotals(5, 0, BigDecimal.ONE));
+
+        ReorderRunResult result = reorderService.run();
+
+        assertEquals(5, result.suggestions());
+        assertEquals(List.of("Location 1: timeout"), result.errors());
+    }
+
+    @Test
+    void run_ShouldSkip_WhenNoLocations() {
+        when(reorderDao.findLocationIds()).thenReturn(List.of());
+
+        assertEquals(0, reorderService.run().locations());
+        verify(reorderDao, never()).suggestForLocation(anyLong());
+    }
+}
@@ -0,0 +1,179 @@
+package org.service.impl;
+
+import org.dao.StockReservationDao;
+import org.dto.ReservationRequest;
+import org.exception.DataNotFoundException;
+import org.exception.InsufficientStockException;
+import org.exception.InvalidValidatorException;
+import org.exception.ReservationExpiredException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.model.Inventory;
+import org.model.MovementReason;
+import org.model.StockReservation;
+import org.service.InventoryService;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+import org.validators.ReservationRequestValidator;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class StockReservationServiceImplTest {
+
+    private StockReservationDao stockReservationDao;
+    private InventoryService inventoryService;
+    private MutableClock clock;
+    private StockReservationServiceImpl stockReservationService;
+
+    @BeforeEach
+    void setUp() {
+        stockReservationDao = mock(StockReservationDao.class);
+        inventoryService = mock(InventoryService.class);
+        clock = new MutableClock();
+        stockReservationService = new StockReservationServiceImpl(stockReservationDao, inventoryService,
+                new ReservationRequestValidator(), Duration.ofMinutes(15), clock);
+
+        when(inventoryService.findByProductAndLocation(1L, 1L)).thenReturn(Inventory.builder().quantity(10).build());
+        AtomicLong ids = new AtomicLong();
+        when(stockReservationDao.save(any())).thenAnswer(invocation ->
+                invocation.<StockReservation>getArgument(0).withId(ids.incrementAndGet()));
+    }
+
+    @Test
+    void reserve_ShouldLowerAvailableWithoutTouchingInventory() {
+        StockReservation reservation = stockReservationService.reserve(new ReservationRequest(1L, 1L, 4, "cart-1", null));
+
+        assertEquals(1L, reservation.id());
+        assertEquals(LocalDateTime.now(clock).plusMinutes(15), reservation.expiresAt());
+        assertEquals(4, stockReservationService.reserved(1L, 1L));
+        assertEquals(6, stockReservationService.available(1L, 1L));
+        verify(inventoryService, never()).adjust(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void reserve_ShouldThrow_WhenNotEnoughAvailable() {
+        stockReservationService.reserve(new ReservationRequest(1L, 1L, 8, null, null));
+
+        InsufficientStockException ex = assertThrows(InsufficientStockException.class,
+                () -> stockReservationService.reserve(new ReservationRequest(1L, 1L, 3, null, null)));
+
+        assertEquals(2, ex.getAvailable());
+        assertEquals(8, stockReservationService.reserved(1L, 1L));
+    }
+
+    @Test
+    void reserve_ShouldUndoHold_WhenPersistFails() {
+        doThrow(new QueryTimeoutException("timeout")).when(stockReservationDao).save(any());
+
+        assertThrows(QueryTimeoutException.class, () -> stockReservationService.reserve(new ReservationRequest(1L, 1L, 3, null, null)));
+        assertEquals(0, stockReservationService.reserved(1L, 1L));
+    }
+
+    @Test
+    void reserve_ShouldRejectNonPositiveQuantity() {
+        assertThrows(InvalidValidatorException.class, () -> stockReservationService.reserve(new ReservationRequest(1L, 1L, 0, null, null)));
+    }
+
+    @Test
+    void commit_ShouldDecrementInventoryAndDropHold() {
+        StockReservation reservation = stockReservationService.reserve(new ReservationRequest(1L, 1L, 4, "order-7", null));
+        when(inventoryService.adjust(1L, 1L, -4, MovementReason.SALE, "order-7")).thenReturn(6);
+
+        assertEquals(6, stockReservationService.commit(reservation.id()));
+        assertEquals(0, stockReservationService.reserved(1L, 1L));
+        verify(stockReservationDao).deleteById(reservation.id());
+        assertThrows(DataNotFoundException.class, () -> stockReservationService.commit(reservation.id()));
+    }
+
+    @Test
+    void commit_ShouldKeepHold_WhenInventoryUpdateFails() {
+        StockReservation reservation = stockReservationService.reserve(new ReservationRequest(1L, 1L, 4, null, null));
+        when(inventoryService.adjust(any(), any(), anyInt(), any(), any())).thenThrow(new InsufficientStockException("low", 2, 4));
+
+        assertThrows(InsufficientStockException.class, () -> stockReservationService.commit(reservation.id()));
+        assertEquals(4, stockReservationService.reserved(1L, 1L));
+
+        stockReservationService.release(reservation.id());
+        assertEquals(0, stockReservationService.reserved(1L, 1L));
+    }
+
+    @Test
+    void commit_ShouldRefuseExpiredHold() {
+        StockReservation reservation = stockReservationService.reserve(new ReservationRequest(1L, 1L, 4, null, 60L));
+        clock.advance(Duration.ofMinutes(2));
+
+        assertThrows(ReservationExpiredException.class, () -> stockReservationService.commit(reservation.id()));
+        assertEquals(0, stockReservationService.reserved(1L, 1L));
+        verify(stockReservationDao).deleteById(reservation.id());
+        verify(inventoryService, never()).adjust(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void commit_ShouldKeepExpiredHoldDeletion() throws NoSuchMethodException {
+        Transactional transactional = StockReservationServiceImpl.class.getMethod("commit", Long.class).getAnnotation(Transactional.class);
+
+        assertArrayEquals(new Class<?>[]{ReservationExpiredException.class}, transactional.noRollbackFor());
+    }
+
+    @Test
+    void sweep_ShouldBeScheduledOnImplementation() throws NoSuchMethodException {
+        assertNotNull(StockReservationServiceImpl.class.getMethod("sweep").getAnnotation(Scheduled.class));
+    }
+
+    @Test
+    void sweep_ShouldExpireStaleHoldsOnly() {
+        stockReservationService.reserve(new ReservationRequest(1L, 1L, 2, null, 60L));
+        stockReservationService.reserve(new ReservationRequest(1L, 1L, 3, null, 600L));
+        clock.advance(Duration.ofMinutes(5));
+
+        assertEquals(1, stockReservationService.sweep());
+        assertEquals(3, stockReservationService.reserved(1L, 1L));
+        verify(stockReservationDao).deleteExpired(LocalDateTime.now(clock));
+    }
+
+    @Test
+    void reload_ShouldRestoreActiveHolds() {
+        when(stockReservationDao.findAllActive(any())).thenReturn(List.of(
+                new StockReservation(5L, 1L, 1L, 2, null, LocalDateTime.now(clock).plusMinutes(1)),
+                new StockReservation(6L, 1L, 1L, 3, null, LocalDateTime.now(clock).plusMinutes(1))));
+
+        stockReservationService.reload();
+
+        assertEquals(5, stockReservationService.reserved(1L, 1L));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T10:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.service.impl;
+
+import org.dao.StockSummaryDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.service.StockSummaryService;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class StockSummaryServiceImplTest {
+
+    private StockSummaryDao stockSummaryDao;
+    private StockSummaryService stockSummaryService;
+
+    @BeforeEach
+    void setUp() {
+        stockSummaryDao = mock(StockSummaryDao.class);
+        stockSummaryService = new StockSummaryServiceImpl(stockSummaryDao, 100);
+    }
+
+    @Test
+    void verifyAndRepair_ShouldWalkEveryRange() {
+        when(stockSummaryDao.maxProductId()).thenReturn(250L);
+        when(stockSummaryDao.repair(100L, 200L)).thenReturn(3);
+
+        assertEquals(3, stockSummaryService.verifyAndRepair());
+
+        verify(stockSummaryDao).repair(0L, 100L);
+        verify(stockSummaryDao).repair(100L, 200L);
+        verify(stockSummaryDao).repair(200L, 250L);
+    }
+
+    @Test
+    void verifyAndRepair_ShouldDoNothing_WhenNoProducts() {
+        when(stockSummaryDao.maxProductId()).thenReturn(0L);
+
+        assertEquals(0, stockSummaryService.verifyAndRepair());
+        verify(stockSummaryDao, never()).repair(anyLong(), anyLong());
+    }
+
+    @Test
+    void verifyAndRepair_ShouldBeScheduledOnImplementation() throws NoSuchMethodException {
+        assertNotNull(StockSummaryServiceImpl.class.getMethod("verifyAndRepair").getAnnotation(Scheduled.class));
+    }
+}
@@ -0,0 +1,76 @@
+package org.service.impl;
+
+import org.alert.LowStockEvaluator;
+import org.dao.LocationDao;
+import org.dao.ProductDao;
+import org.dao.StockThresholdDao;
+import org.dto.StockThresholdRequest;
+import org.exception.DataNotFoundException;
+import org.exception.InvalidValidatorException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.model.StockThreshold;
+import org.service.StockThresholdService;
+import org.validators.StockThresholdRequestValidator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class StockThresholdServiceImplTest {
+
+    private StockThresholdDao stockThresholdDao;
+    private ProductDao productDao;
+    private LocationDao locationDao;
+    private LowStockEvaluator lowStockEvaluator;
+    private StockThresholdService stockThresholdService;
+
+    @BeforeEach
+    void setUp() {
+        stockThresholdDao = mock(StockThresholdDao.class);
+        productDao = mock(ProductDao.class);
+        locationDao = mock(LocationDao.class);
+        lowStockEvaluator = mock(LowStockEvaluator.class);
+        stockThresholdService = new StockThresholdServiceImpl(stockThresholdDao, productDao, locationDao, lowStockEvaluator, new StockThresholdRequestValidator());
+    }
+
+    @Test
+    void save_ShouldStoreAndActivateThreshold() {
+        StockThreshold threshold = new StockThreshold(1L, 2L, 5, 20);
+        when(productDao.isProductExists(1L)).thenReturn(true);
+        when(locationDao.isLocationExist(2L, null)).thenReturn(true);
+        when(stockThresholdDao.save(threshold)).thenReturn(threshold);
+
+        assertEquals(threshold, stockThresholdService.save(new StockThresholdRequest(1L, 2L, 5, 20)));
+        verify(lowStockEvaluator).put(threshold);
+    }
+
+    @Test
+    void save_ShouldReject_WhenRestockLevelNotAboveLowLevel() {
+        assertThrows(InvalidValidatorException.class, () -> stockThresholdService.save(new StockThresholdRequest(1L, 2L, 5, 5)));
+        verify(stockThresholdDao, never()).save(any());
+    }
+
+    @Test
+    void save_ShouldThrow_WhenProductMissing() {
+        when(productDao.isProductExists(1L)).thenReturn(false);
+
+        assertThrows(DataNotFoundException.class, () -> stockThresholdService.save(new StockThresholdRequest(1L, 2L, 5, 20)));
+    }
+
+    @Test
+    void delete_ShouldDeactivateThreshold() {
+        when(stockThresholdDao.delete(1L, 2L)).thenReturn(1);
+
+        assertEquals(1, stockThresholdService.delete(1L, 2L));
+        verify(lowStockEvaluator).remove(1L, 2L);
+    }
+
+    @Test
+    void delete_ShouldThrow_WhenNotFound() {
+        when(stockThresholdDao.delete(1L, 2L)).thenReturn(0);
+
+        assertThrows(DataNotFoundException.class, () -> stockThresholdService.delete(1L, 2L));
+        verify(lowStockEvaluator, never()).remove(any(), any());
+    }
+}
@@ -0,0 +1,66 @@
+package org.service.impl;
+
+import org.dao.ProductDao;
+import org.dao.SupplierDao;
+import org.dao.SupplierProductDao;
+import org.dto.SupplierProductRequest;
+import org.exception.DataNotFoundException;
+import org.exception.InvalidValidatorException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.model.SupplierProduct;
+import org.service.SupplierProductService;
+import org.validators.SupplierProductRequestValidator;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SupplierProductServiceImplTest {
+
+    private SupplierProductDao supplierProductDao;
+    private SupplierDao supplierDao;
+    private ProductDao productDao;
+    private SupplierProductService supplierProductService;
+
+    @BeforeEach
+    void setUp() {
+        supplierProductDao = mock(SupplierProductDao.class);
+        supplierDao = mock(SupplierDao.class);
+        productDao = mock(ProductDao.class);
+        supplierProductService = new SupplierProductServiceImpl(supplierProductDao, supplierDao, productDao, new SupplierProductRequestValidator());
+    }
+
+    @Test
+    void save_ShouldDefaultMinOrderQuantityToOne() {
+        SupplierProduct offer = new SupplierProduct(1L, 2L, BigDecimal.TEN, 5, 1);
+        when(supplierDao.isSupplierExists(1L)).thenReturn(true);
+        when(productDao.isProductExists(2L)).thenReturn(true);
+        when(supplierProductDao.save(offer)).thenReturn(offer);
+
+        assertEquals(offer, supplierProductService.save(new SupplierProductRequest(1L, 2L, BigDecimal.TEN, 5, null)));
+    }
+
+    @Test
+    void save_ShouldRejectNegativeCost() {
+        assertThrows(InvalidValidatorException.class, () ->
+                supplierProductService.save(new SupplierProductRequest(1L, 2L, BigDecimal.valueOf(-1), 5, 1)));
+        verifyNoInteractions(supplierProductDao);
+    }
+
+    @Test
+    void save_ShouldThrow_WhenSupplierMissing() {
+        when(supplierDao.isSupplierExists(1L)).thenReturn(false);
+
+        assertThrows(DataNotFoundException.class, () ->
+                supplierProductService.save(new SupplierProductRequest(1L, 2L, BigDecimal.TEN, 5, 1)));
+    }
+
+    @Test
+    void delete_ShouldThrow_WhenNothingDeleted() {
+        when(supplierProductDao.delete(1L, 2L)).thenReturn(0);
+
+        assertThrows(DataNotFoundException.class, () -> supplierProductService.delete(1L, 2L));
+    }
+}
@@ -1,7 +1,9 @@
 package org.service.impl;
 
+import org.cache.ExpiringLruCache;
 import org.dao.SupplierDao;
 import org.dao.impl.SupplierDaoImpl;
+import org.dto.ImportChunkResult;
 import org.dto.SupplierRequest;
 import org.exception.DataNotFoundException;
 import org.exception.InvalidValidatorException;
@@ -9,14 +11,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.model.Supplier;
+import org.model.SupplierSearchHit;
 import org.service.SupplierService;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.validation.Errors;
 import org.validators.SupplierRequestValidator;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
@@ -34,7 +41,7 @@ class SupplierServiceImplTest {
     void setUp() {
         dao = Mockito.mock(SupplierDao.class);
         supplierRequestValidator = Mockito.mock(SupplierRequestValidator.class);
-        service = new SupplierServiceImpl(dao, supplierRequestValidator);
+        service = new SupplierServiceImpl(dao, supplierRequestValidator, new ExpiringLruCache<>(1, Duration.ofSeconds(60)));
 
         supplier = Supplier.builder()
                 .id(1L)
@@ -150,4 +157,121 @@ class SupplierServiceImplTest {
         var exception = assertThrows(DataNotFoundException.class, () -> service.deleteById(0L));
         assertTrue(exception.getMessage().contains("not found"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFindPage_delegatesCursor() {
+        when(dao.findPage("name", 1L, 20)).thenReturn(List.of(supplier));
+
+        assertEquals(List.of(supplier), service.findPage("name", 1L, 20));
+    }
+
+    @Test
+    void testFindPage_rejectsNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> service.findPage(null, null, 0));
+    }
+
+    @Test
+    void testCount_exactForSmallTableAndCached() {
+        when(dao.estimateCount()).thenReturn(-1L);
+        when(dao.count()).thenReturn(3L);
+
+        assertEquals(3L, service.count());
+        assertEquals(3L, service.count());
+        Mockito.verify(dao, Mockito.times(1)).count();
+    }
+
+    @Test
+    void testCount_usesEstimateForLargeTable() {
+        when(dao.estimateCount()).thenReturn(250_000L);
+
+        assertEquals(250_000L, service.count());
+        Mockito.verify(dao, Mockito.never()).count();
+    }
+
+    @Test
+    void testCount_invalidatedBySave() {
+        when(dao.estimateCount()).thenReturn(-1L);
+        when(dao.count()).thenReturn(3L, 4L);
+        when(dao.save(any(Supplier.class))).thenReturn(supplier);
+
+        assertEquals(3L, service.count());
+        service.save(supplierRequest);
+        assertEquals(4L, service.count());
+    }
+
+    @Test
+    void testImportAll_shouldCountInsertedUpdatedAndRejectedPerChunk() {
+        SupplierRequest invalid = new SupplierRequest("", "contact", "+84 1", "bad@gmail.com", "address");
+        SupplierRequest duplicate = new SupplierRequest("name", "other", "+84 2", "other@gmail.com", "address");
+        SupplierRequest updated = new SupplierRequest("second", "contact", "+84 3", "second@gmail.com", "address");
+        SupplierRequest conflicting = new SupplierRequest("third", "contact", "+84 4", "third@gmail.com", "address");
+        doAnswer(invocation -> {
+            invocation.<Errors>getArgument(1).rejectValue("name", "invalid", "Supplier name must not be empty");
+            return null;
+        }).when(supplierRequestValidator).validate(eq(invalid), any(Errors.class));
+        when(dao.upsertAll(anyList())).thenReturn(Map.of("name", true), Map.of("second", false));
+
+        List<ImportChunkResult> results = service.importAll(List.of(supplierRequest, invalid, duplicate, updated, conflicting), 3);
+
+        assertEquals(2, results.size());
+        assertEquals(1, results.getFirst().inserted());
+        assertEquals(2, results.getFirst().rejected());
+        assertEquals("Row 1: Supplier name must not be empty", results.getFirst().errors().getFirst());
+        assertEquals("Row 2: Duplicate supplier name: name", results.getFirst().errors().getLast());
+        assertEquals(1, results.getLast().updated());
+        assertEquals(1, results.getLast().rejected());
+        assertEquals("Row 4: Phone number or email already belongs to another supplier", results.getLast().errors().getFirst());
+    }
+
+    @Test
+    void testImportAll_shouldReportFailedChunkAndContinue() {
+        when(dao.upsertAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenReturn(Map.of("second", true));
+
+        List<ImportChunkResult> results = service.importAll(List.of(supplierRequest,
+                new SupplierRequest("second", "contact", "+84 3", "second@gmail.com", "address")), 1);
+
+        assertEquals(1, results.getFirst().rejected());
+        assertEquals(1, results.getLast().inserted());
+    }
+
+    @Test
+    void testSearch_shouldSkipBlankQuery() {
+        assertTrue(service.search("  ", 10).isEmpty());
+        Mockito.verifyNoInteractions(dao);
+    }
+
+    @Test
+    void testSearch_shouldDelegateTrimmedQuery() {
+        SupplierSearchHit hit = new SupplierSearchHit(1L, "name", "contact", "test@gmail.com", "+84 37 84 038", 0.8f);
+        when(dao.search("acme", 10)).thenReturn(List.of(hit));
+
+        assertEquals(List.of(hit), service.search(" acme ", 10));
+    }
+
+    @Test
+    void testImportAll_shouldReportNullFieldsAsRowErrors() {
+        service = new SupplierServiceImpl(dao, new SupplierRequestValidator(), new ExpiringLruCache<>(1, Duration.ofSeconds(60)));
+        SupplierRequest missing = new SupplierRequest(null, "contact", null, null, "address");
+        when(dao.upsertAll(anyList())).thenReturn(Map.of("name", true));
+
+        List<ImportChunkResult> results = service.importAll(List.of(missing, supplierRequest), 10);
+
+        assertEquals(1, results.getFirst().inserted());
+        assertEquals(1, results.getFirst().rejected());
+        assertTrue(results.getFirst().errors().getFirst().startsWith("Row 0: Supplier name must not be empty"));
+    }
+
+    @Test
+    void testImportAll_shouldNotReserveNameOfRejectedRow() {
+        SupplierRequest samePhone = new SupplierRequest("other", "contact", supplierRequest.phoneNumber(), "other@gmail.com", "address");
+        SupplierRequest otherName = new SupplierRequest("other", "contact", "+84 9", "third@gmail.com", "address");
+        when(dao.upsertAll(anyList())).thenReturn(Map.of("name", true, "other", true));
+
+        List<ImportChunkResult> results = service.importAll(List.of(supplierRequest, samePhone, otherName), 10);
+
+        assertEquals(2, results.getFirst().inserted());
+        assertEquals(List.of("Row 1: Duplicate phone number: " + supplierRequest.phoneNumber()), results.getFirst().errors());
+    }
+}